@@ -1,11 +1,16 @@
 package main.java;
 
 import main.java.game.GameMediator;
+import main.java.game.GameMode;
+import main.java.game.GameState;
 import main.java.game.IGameMediator;
 import main.java.players.Player;
 import main.java.ui.GameUI;
 import main.java.utils.ConsoleLogger;
-import java.util.concurrent.ThreadLocalRandom;
+import main.java.utils.LogOverflowPolicy;
+import main.java.utils.ScoreFileWriter;
+import main.java.utils.ScoreTracker;
+import java.util.SplittableRandom;
 
 /**
  * GameApp serves as the entry point for the UNO game application.
@@ -14,28 +19,45 @@ import java.util.concurrent.ThreadLocalRandom;
 public class GameApp {
     private IGameMediator mediator;
     private GameUI ui;
+    private SplittableRandom random;
     
     /**
-     * Constructs a new GameApp with initialized components.
+     * Constructs a new GameApp with initialized components and a randomly seeded game.
      */
     public GameApp() {
-        this.mediator = new GameMediator();
+        this(new SplittableRandom());
+    }
+    
+    /**
+     * Constructs a new GameApp whose game draws all its randomness from the given stream.
+     * 
+     * @param random The random stream of the game
+     */
+    public GameApp(SplittableRandom random) {
+        this.random = random;
+        this.mediator = new GameMediator(GameMode.VERBOSE, new ScoreTracker(), random.split());
         this.ui = new GameUI();
     }
     
     /**
      * The main method that initializes and runs the UNO game.
      * 
-     * @param args Command line arguments (not used)
+     * @param args Optional: a seed that makes the game reproducible
      */
     public static void main(String[] args) {
-        // Initialize console logging
-        ConsoleLogger.initialize();
+        // Initialize console logging; output is written by a background thread
+        ConsoleLogger.initializeAsync(ConsoleLogger.DEFAULT_QUEUE_CAPACITY, LogOverflowPolicy.BLOCK);
+        
+        // Write queued score records even if the game ends abnormally
+        ScoreFileWriter.closeAllOnShutdown();
         
         // Create and start the game
-        GameApp app = new GameApp();
+        GameApp app = args.length > 0 ? new GameApp(new SplittableRandom(Long.parseLong(args[0]))) : new GameApp();
         app.startGame();
         
+        // Wait until all queued score records are on disk
+        ScoreFileWriter.closeAll();
+        
         // Stop console logging
         ConsoleLogger.restore();
     }
@@ -47,7 +69,7 @@ public class GameApp {
         ui.displayWelcomeMessage();
         
         // Randomly determine the number of players (2-4)
-        int numPlayers = ThreadLocalRandom.current().nextInt(2, 5); // 2 to 4 inclusive
+        int numPlayers = random.nextInt(2, 5); // 2 to 4 inclusive
         
         // Create players
         mediator.createPlayers(numPlayers);
@@ -71,21 +93,19 @@ public class GameApp {
      */
     private boolean runGameRound() {
         boolean roundEnded = false;
-        boolean gameOver = false;
         
         while (!roundEnded) {
             Player currentPlayer = mediator.getCurrentPlayer();
             mediator.handleTurn(currentPlayer);
             
-            // Check if player won the round (empty hand)
-            if (currentPlayer.getHand().isEmpty()) {
-                roundEnded = true;
-                
-                // Check if game is over (player reached 500 points)
-                if (mediator.isGameOver()) {
-                    gameOver = true;
-                }
-            }
+            // The round ends when a player empties their hand
+            roundEnded = mediator.getGameState() != GameState.IN_PROGRESS;
+        }
+        
+        // Check if game is over (player reached 500 points), otherwise deal the next round
+        boolean gameOver = mediator.isGameOver();
+        if (!gameOver) {
+            mediator.startNextRound();
         }
         
         return gameOver;
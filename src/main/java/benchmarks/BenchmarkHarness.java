@@ -0,0 +1,95 @@
+package main.java.benchmarks;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Minimal benchmark harness shared by the benchmark programs.
+ * Each benchmark runs a number of warmup rounds so the JIT compiles the measured code,
+ * then measured rounds whose time and allocated bytes are reported per operation.
+ * Allocation is read from the HotSpot per-thread allocation counter, the same source
+ * that JMH's GC profiler uses for its normalized allocation rate.
+ */
+final class BenchmarkHarness {
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+
+    /** Keeps results observable so the JIT cannot eliminate the measured work */
+    static volatile long sink;
+
+    /**
+     * A unit of measured work.
+     */
+    interface Operation {
+        /**
+         * Runs the measured work once.
+         *
+         * @return Any value derived from the work, consumed by the harness
+         */
+        long run();
+    }
+
+    private BenchmarkHarness() {
+        // Static helpers, not instantiable
+    }
+
+    /**
+     * Prints the header line for benchmark results.
+     */
+    static void printHeader() {
+        System.out.printf("%-44s %14s %14s %12s%n", "Benchmark", "ns/op", "ops/s", "B/op");
+    }
+
+    /**
+     * Measures an operation and prints its time and allocation per operation.
+     *
+     * @param name The benchmark name
+     * @param opsPerRound How many times the operation runs per round
+     * @param operation The operation to measure
+     */
+    static void measure(String name, int opsPerRound, Operation operation) {
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            runRound(opsPerRound, operation);
+        }
+
+        long startBytes = allocatedBytes();
+        long start = System.nanoTime();
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            runRound(opsPerRound, operation);
+        }
+        long elapsed = System.nanoTime() - start;
+        long bytes = allocatedBytes() - startBytes;
+
+        double ops = (double) opsPerRound * MEASURED_ROUNDS;
+        double nanosPerOp = elapsed / ops;
+        System.out.printf("%-44s %14.2f %14.0f %12.1f%n", name, nanosPerOp, 1e9 / nanosPerOp,
+                bytes < 0 ? Double.NaN : bytes / ops);
+    }
+
+    /**
+     * Runs one round of an operation.
+     *
+     * @param ops The number of operations in the round
+     * @param operation The operation to run
+     */
+    private static void runRound(int ops, Operation operation) {
+        long accumulator = 0;
+        for (int i = 0; i < ops; i++) {
+            accumulator += operation.run();
+        }
+        sink = accumulator;
+    }
+
+    /**
+     * Reads the number of bytes allocated so far by the current thread.
+     *
+     * @return The allocated bytes, or -1 if the JVM does not report allocation
+     */
+    private static long allocatedBytes() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) threads).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,336 @@
+package main.java.benchmarks;
+
+import java.util.SplittableRandom;
+
+import main.java.cards.Card;
+import main.java.cards.CardColor;
+import main.java.cards.CardRegistry;
+import main.java.game.Deck;
+import main.java.game.DiscardPile;
+import main.java.game.DrawPile;
+import main.java.game.GameMediator;
+import main.java.game.GameMode;
+import main.java.game.GameState;
+import main.java.game.GameView;
+import main.java.game.MoveGenerator;
+import main.java.players.DefaultStrategy;
+import main.java.players.Hand;
+import main.java.players.PlayerStrategy;
+import main.java.utils.NoOpScoreSink;
+import main.java.utils.ScoreTracker;
+
+/**
+ * Benchmark suite for the hot paths of the game engine.
+ * Every benchmark runs on seeded random streams, so runs before and after an engine change
+ * measure the same games. Alongside the time per operation the harness reports the bytes
+ * allocated per operation, which is the figure to watch for allocation regressions.
+ *
+ * <p>Usage: {@code EngineBenchmarks [filter]}, where the optional filter runs only the
+ * benchmarks whose name contains it.</p>
+ */
+public class EngineBenchmarks {
+    private static final long SEED = 42;
+    private static final int PLAYERS = 4;
+    private static final int[] HAND_SIZES = {1, 7, 20, 50};
+
+    /**
+     * Runs the benchmarks.
+     *
+     * @param args Optional: a substring of the benchmark names to run
+     */
+    public static void main(String[] args) {
+        String filter = args.length > 0 ? args[0] : "";
+
+        BenchmarkHarness.printHeader();
+        if ("handleTurn".contains(filter)) {
+            benchmarkHandleTurn();
+        }
+        if ("selectCard".contains(filter)) {
+            for (int handSize : HAND_SIZES) {
+                benchmarkSelectCard(handSize);
+            }
+        }
+        if ("generateMoves".contains(filter)) {
+            for (int handSize : HAND_SIZES) {
+                benchmarkGenerateMoves(handSize);
+            }
+        }
+        if ("dealDeck".contains(filter)) {
+            benchmarkDealDeck();
+        }
+        if ("replenishDrawPile".contains(filter)) {
+            benchmarkReplenishDrawPile();
+        }
+        if ("redistributeHands".contains(filter)) {
+            benchmarkRedistributeHands();
+        }
+        if ("fullGame".contains(filter)) {
+            benchmarkFullGame();
+            benchmarkFullGameReset();
+        }
+        if ("newGame".contains(filter)) {
+            benchmarkNewGame();
+        }
+    }
+
+    /**
+     * Creates a headless game that has been dealt its first round.
+     *
+     * @param random The random stream of the game
+     * @return The started game
+     */
+    private static GameMediator newGame(SplittableRandom random) {
+        GameMediator mediator = new GameMediator(GameMode.HEADLESS, new ScoreTracker(NoOpScoreSink.INSTANCE), random);
+        mediator.createPlayers(PLAYERS);
+        mediator.startGame();
+        return mediator;
+    }
+
+    /**
+     * One headless turn. Rounds are dealt and games replaced as they end, so those costs
+     * are spread over the turns in the proportion in which they occur in real games.
+     */
+    private static void benchmarkHandleTurn() {
+        SplittableRandom seeds = new SplittableRandom(SEED);
+        GameMediator[] game = {newGame(seeds.split())};
+        BenchmarkHarness.measure("handleTurn (headless)", 200_000, () -> {
+            GameMediator mediator = game[0];
+            if (mediator.isGameOver()) {
+                mediator = newGame(seeds.split());
+                game[0] = mediator;
+            } else if (mediator.getGameState() == GameState.ROUND_OVER) {
+                mediator.startNextRound();
+            }
+            mediator.handleTurn(mediator.getCurrentPlayer());
+            return mediator.getTurnCount();
+        });
+    }
+
+    /**
+     * Card selection by the default strategy for a hand of the given size, against a rotating
+     * set of top cards and colors.
+     *
+     * @param handSize The number of cards in the hand
+     */
+    private static void benchmarkSelectCard(int handSize) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        int[] ids = shuffledIds(random);
+        Hand hand = new Hand();
+        for (int i = 0; i < handSize; i++) {
+            hand.add(CardRegistry.get(ids[i]));
+        }
+
+        int samples = 1024;
+        Card[] topCards = new Card[samples];
+        CardColor[] colors = new CardColor[samples];
+        for (int i = 0; i < samples; i++) {
+            topCards[i] = CardRegistry.get(ids[handSize + random.nextInt(CardRegistry.DECK_SIZE - handSize)]);
+            colors[i] = CardColor.of(random.nextInt(CardColor.DECLARABLE_COUNT));
+        }
+
+        TableView view = new TableView(random.split());
+        PlayerStrategy strategy = DefaultStrategy.INSTANCE;
+        int[] next = {0};
+        BenchmarkHarness.measure("selectCard (hand " + handSize + ")", 1_000_000, () -> {
+            int i = next[0]++ & (samples - 1);
+            view.topCard = topCards[i];
+            view.activeColor = colors[i];
+            return strategy.selectCard(view, hand);
+        });
+    }
+
+    /**
+     * Generating all legal moves of a hand of the given size, against a rotating set of top cards
+     * and colors.
+     *
+     * @param handSize The number of cards in the hand
+     */
+    private static void benchmarkGenerateMoves(int handSize) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        int[] ids = shuffledIds(random);
+        Hand hand = new Hand();
+        for (int i = 0; i < handSize; i++) {
+            hand.add(CardRegistry.get(ids[i]));
+        }
+
+        int samples = 1024;
+        Card[] topCards = new Card[samples];
+        CardColor[] colors = new CardColor[samples];
+        for (int i = 0; i < samples; i++) {
+            topCards[i] = CardRegistry.get(ids[handSize + random.nextInt(CardRegistry.DECK_SIZE - handSize)]);
+            colors[i] = CardColor.of(random.nextInt(CardColor.DECLARABLE_COUNT));
+        }
+
+        TableView view = new TableView(random.split());
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+        int[] next = {0};
+        BenchmarkHarness.measure("generateMoves (hand " + handSize + ")", 1_000_000, () -> {
+            int i = next[0]++ & (samples - 1);
+            view.topCard = topCards[i];
+            view.activeColor = colors[i];
+            return MoveGenerator.generate(view, hand, moves);
+        });
+    }
+
+    /**
+     * Building and shuffling a deck, then dealing seven cards to each of four players.
+     */
+    private static void benchmarkDealDeck() {
+        SplittableRandom random = new SplittableRandom(SEED);
+        Deck deck = new Deck();
+        BenchmarkHarness.measure("initializeDeck + shuffle + deal", 100_000, () -> {
+            deck.initializeDeck(random);
+            deck.shuffle(random);
+            long sum = 0;
+            for (int i = 0; i < 7 * PLAYERS; i++) {
+                sum += deck.dealCardId();
+            }
+            return sum;
+        });
+    }
+
+    /**
+     * Recycling a full discard pile into an empty draw pile and shuffling it, as the mediator
+     * does when the draw pile runs out. Each operation plays the recycled cards back onto the
+     * discard pile so the next one starts from the same state; that is included in the timing.
+     */
+    private static void benchmarkReplenishDrawPile() {
+        SplittableRandom random = new SplittableRandom(SEED);
+        DrawPile drawPile = new DrawPile();
+        DiscardPile discardPile = new DiscardPile();
+        for (int id : shuffledIds(random)) {
+            discardPile.addCardId(id);
+        }
+        BenchmarkHarness.measure("replenishDrawPile (107 cards)", 100_000, () -> {
+            int recycled = discardPile.recycleInto(drawPile);
+            drawPile.shuffle(random);
+            while (!drawPile.isEmpty()) {
+                discardPile.addCardId(drawPile.drawCardId());
+            }
+            return recycled;
+        });
+    }
+
+    /**
+     * Shuffling and redistributing the hands of a freshly dealt four-player game.
+     */
+    private static void benchmarkRedistributeHands() {
+        GameMediator mediator = newGame(new SplittableRandom(SEED));
+        BenchmarkHarness.measure("redistributeHands (" + PLAYERS + " x 7 cards)", 100_000, () -> {
+            mediator.redistributeHands();
+            return mediator.getCurrentPlayer().getSeat();
+        });
+    }
+
+    /**
+     * A complete headless game to 500 points.
+     */
+    private static void benchmarkFullGame() {
+        SplittableRandom seeds = new SplittableRandom(SEED);
+        BenchmarkHarness.measure("full game (" + PLAYERS + " players)", 200, () -> {
+            GameMediator mediator = newGame(seeds.split());
+            while (!mediator.isGameOver()) {
+                mediator.advance();
+            }
+            return mediator.getTurnCount();
+        });
+    }
+
+    /**
+     * A complete headless game to 500 points on one mediator that is reset between games,
+     * as tournament workers play them. Compared with the full game benchmark, the difference
+     * in bytes per operation is the garbage of creating a game.
+     */
+    private static void benchmarkFullGameReset() {
+        SplittableRandom seeds = new SplittableRandom(SEED);
+        GameMediator mediator = newGame(seeds.split());
+        BenchmarkHarness.measure("full game, reset mediator (" + PLAYERS + " players)", 200, () -> {
+            mediator.reset(seeds.split());
+            while (!mediator.isGameOver()) {
+                mediator.advance();
+            }
+            return mediator.getTurnCount();
+        });
+    }
+
+    /**
+     * Constructing a headless game and seating its players, without dealing.
+     * Tournaments create one game per simulated game, so this is paid millions of times.
+     */
+    private static void benchmarkNewGame() {
+        SplittableRandom random = new SplittableRandom(SEED);
+        BenchmarkHarness.measure("new game (" + PLAYERS + " players)", 200_000, () -> {
+            GameMediator mediator = new GameMediator(GameMode.HEADLESS, new ScoreTracker(NoOpScoreSink.INSTANCE), random);
+            mediator.createPlayers(PLAYERS);
+            return mediator.getPlayerCount();
+        });
+    }
+
+    /**
+     * Creates a random permutation of all registry ids.
+     *
+     * @param random The random stream to shuffle with
+     * @return The shuffled ids
+     */
+    private static int[] shuffledIds(SplittableRandom random) {
+        int[] ids = new int[CardRegistry.DECK_SIZE];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = i;
+        }
+        for (int i = ids.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int temp = ids[i];
+            ids[i] = ids[j];
+            ids[j] = temp;
+        }
+        return ids;
+    }
+
+    /**
+     * Game view with a settable top card and active color, for measuring a strategy on its own.
+     */
+    private static class TableView implements GameView {
+        private final SplittableRandom random;
+        private Card topCard;
+        private CardColor activeColor = CardColor.NONE;
+
+        TableView(SplittableRandom random) {
+            this.random = random;
+        }
+
+        @Override
+        public Card getTopCard() {
+            return topCard;
+        }
+
+        @Override
+        public CardColor getActiveColor() {
+            return activeColor;
+        }
+
+        @Override
+        public int getPlayerCount() {
+            return PLAYERS;
+        }
+
+        @Override
+        public int getCurrentSeat() {
+            return 0;
+        }
+
+        @Override
+        public int getHandSize(int seat) {
+            return 7;
+        }
+
+        @Override
+        public boolean isClockwise() {
+            return true;
+        }
+
+        @Override
+        public SplittableRandom getRandom() {
+            return random;
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package main.java.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.regex.Pattern;
+
+import main.java.game.GameMediator;
+import main.java.game.GameMode;
+import main.java.utils.AnsiTranscoder;
+import main.java.utils.NoOpScoreSink;
+import main.java.utils.ScoreTracker;
+
+/**
+ * Benchmark comparing the AnsiTranscoder with the previous log file formatting, which ran
+ * nine regular expression replacements and a final pattern over every chunk of output.
+ * Both run over the console output of a real seeded game, cut into the same chunks of
+ * complete lines that the logger receives. Before measuring, the benchmark checks that both
+ * produce the same text for every chunk.
+ *
+ * <p>Usage: {@code LogTranscoderBenchmark [seed]}</p>
+ */
+public class LogTranscoderBenchmark {
+    private static final Pattern ANSI_PATTERN = Pattern.compile("\u001B\\[[;\\d]*m");
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args Optional: the seed of the recorded game
+     */
+    public static void main(String[] args) {
+        long seed = args.length > 0 ? Long.parseLong(args[0]) : 42;
+        List<String> chunks = recordGame(seed);
+        AnsiTranscoder transcoder = new AnsiTranscoder();
+
+        long chars = 0;
+        int mismatches = 0;
+        for (String chunk : chunks) {
+            chars += chunk.length();
+            if (!formatWithRegex(chunk).equals(transcoder.toPlainText(chunk))) {
+                mismatches++;
+            }
+        }
+        System.out.printf("Recorded game (seed %d): %d chunks, %d chars, %d mismatching chunks%n",
+                seed, chunks.size(), chars, mismatches);
+
+        String[] log = chunks.toArray(new String[0]);
+        BenchmarkHarness.printHeader();
+        BenchmarkHarness.measure("regex replaceAll (per chunk)", log.length * 5, new Operation(log) {
+            @Override
+            long format(String chunk) {
+                return formatWithRegex(chunk).length();
+            }
+        });
+        BenchmarkHarness.measure("AnsiTranscoder (per chunk)", log.length * 5, new Operation(log) {
+            @Override
+            long format(String chunk) {
+                return transcoder.transcode(chunk);
+            }
+        });
+    }
+
+    /**
+     * Cycles through the recorded chunks, formatting one per operation.
+     */
+    private abstract static class Operation implements BenchmarkHarness.Operation {
+        private final String[] log;
+        private int next;
+
+        Operation(String[] log) {
+            this.log = log;
+        }
+
+        @Override
+        public long run() {
+            String chunk = log[next];
+            next = next + 1 == log.length ? 0 : next + 1;
+            return format(chunk);
+        }
+
+        /**
+         * Formats one chunk for the log file.
+         *
+         * @param chunk The chunk
+         * @return Any value derived from the result
+         */
+        abstract long format(String chunk);
+    }
+
+    /**
+     * Plays a verbose game and records its console output.
+     *
+     * @param seed The seed of the game
+     * @return The output, cut into chunks of complete lines as the logger receives them
+     */
+    private static List<String> recordGame(long seed) {
+        ChunkRecorder recorder = new ChunkRecorder();
+        PrintStream originalOut = System.out;
+        System.setOut(new PrintStream(recorder, false, StandardCharsets.UTF_8));
+        try {
+            SplittableRandom random = new SplittableRandom(seed);
+            GameMediator mediator = new GameMediator(GameMode.VERBOSE, new ScoreTracker(NoOpScoreSink.INSTANCE), random);
+            mediator.createPlayers(4);
+            while (!mediator.isGameOver()) {
+                mediator.advance();
+            }
+        } finally {
+            System.out.flush();
+            System.setOut(originalOut);
+        }
+        return recorder.chunks;
+    }
+
+    /**
+     * The log file formatting that the AnsiTranscoder replaced.
+     *
+     * @param input The console output
+     * @return The plain text for the log file
+     */
+    private static String formatWithRegex(String input) {
+        String result = input;
+
+        // Replace card colors with text indicators
+        result = result.replaceAll("\u001B\\[1;91m\u001B\\[41m (.*?) \u001B\\[0m", "[RED $1]");
+        result = result.replaceAll("\u001B\\[1;94m\u001B\\[44m (.*?) \u001B\\[0m", "[BLUE $1]");
+        result = result.replaceAll("\u001B\\[1;92m\u001B\\[42m (.*?) \u001B\\[0m", "[GREEN $1]");
+        result = result.replaceAll("\u001B\\[1;93m\u001B\\[43m (.*?) \u001B\\[0m", "[YELLOW $1]");
+        result = result.replaceAll("\u001B\\[1;95m\u001B\\[40m (.*?) \u001B\\[0m", "[WILD $1]");
+
+        // Replace UNO with text indicator
+        result = result.replaceAll("\u001B\\[1;31mU\u001B\\[1;32mN\u001B\\[1;34mO", "UNO");
+
+        // Replace player name formatting
+        result = result.replaceAll("\u001B\\[1;97m★ (.*?) ★\u001B\\[0m", "-> $1 <-");
+
+        // Replace highlighting
+        result = result.replaceAll("\u001B\\[1;93m(.*?)\u001B\\[0m", "* $1 *");
+
+        // Replace headers
+        result = result.replaceAll("\u001B\\[1;96m╔(═+)╗\n\u001B\\[1;96m║  (.*?)  ║\n\u001B\\[1;96m╚(═+)╝\u001B\\[0m",
+                                  "==========\n   $2   \n==========");
+
+        // Replace sub headers
+        result = result.replaceAll("\u001B\\[0;96m┌(─+)┐\u001B\\[0m\n\u001B\\[0;96m│ \u001B\\[1;36m(.*?)\u001B\\[0;96m │\u001B\\[0m\n\u001B\\[0;96m└(─+)┘\u001B\\[0m",
+                                "----------\n   $2   \n----------");
+
+        // Strip any remaining ANSI codes
+        return ANSI_PATTERN.matcher(result).replaceAll("");
+    }
+
+    /**
+     * Output stream that records everything up to the last newline of each write as one chunk.
+     */
+    private static class ChunkRecorder extends OutputStream {
+        private final ByteArrayOutputStream pending = new ByteArrayOutputStream();
+        private final List<String> chunks = new ArrayList<>();
+
+        @Override
+        public void write(int b) {
+            pending.write(b);
+            if (b == '\n') {
+                record();
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            pending.write(b, off, len);
+            if (len > 0 && b[off + len - 1] == '\n') {
+                record();
+            }
+        }
+
+        /**
+         * Records the pending bytes as a chunk.
+         */
+        private void record() {
+            chunks.add(pending.toString(StandardCharsets.UTF_8));
+            pending.reset();
+        }
+    }
+}
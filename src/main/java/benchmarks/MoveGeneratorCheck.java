@@ -0,0 +1,239 @@
+package main.java.benchmarks;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import main.java.cards.Card;
+import main.java.cards.CardColor;
+import main.java.cards.CardKind;
+import main.java.cards.CardRegistry;
+import main.java.game.GameMediator;
+import main.java.game.GameMode;
+import main.java.game.GameState;
+import main.java.game.GameView;
+import main.java.game.MoveGenerator;
+import main.java.players.Hand;
+import main.java.players.Player;
+import main.java.utils.NoOpScoreSink;
+import main.java.utils.ScoreTracker;
+
+/**
+ * Self-check of the MoveGenerator against a brute-force enumeration.
+ * The reference walks every card of the hand and applies the rules directly to the cards'
+ * colors and kinds, without the PlayabilityTable or any bitset: a card is playable if it has the
+ * active color or the top card's kind, or is a Wild card, and a Wild Draw Four additionally
+ * needs the active color to be NONE or absent from the hand. It checks every position of
+ * seeded games and random positions, including the NONE active color that games rarely reach,
+ * and verifies the move encoding and the MAX_MOVES bound.
+ *
+ * <p>Usage: {@code MoveGeneratorCheck [games] [randomPositions]}. Throws on the first mismatch.</p>
+ */
+public class MoveGeneratorCheck {
+    private static final long SEED = 42;
+
+    /**
+     * Runs the check.
+     *
+     * @param args Optional: the number of games and the number of random positions to check
+     * @throws IllegalStateException if the generator disagrees with the reference
+     */
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 500;
+        int randomPositions = args.length > 1 ? Integer.parseInt(args[1]) : 1_000_000;
+
+        checkEncoding();
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+        int[] expected = new int[MoveGenerator.MAX_MOVES];
+
+        long gamePositions = 0;
+        SplittableRandom seeds = new SplittableRandom(SEED);
+        for (int game = 0; game < games; game++) {
+            GameMediator mediator = new GameMediator(GameMode.HEADLESS, new ScoreTracker(NoOpScoreSink.INSTANCE),
+                    new SplittableRandom(seeds.nextLong()));
+            mediator.createPlayers(2 + game % 3);
+            mediator.startGame();
+            while (!mediator.isGameOver()) {
+                if (mediator.getGameState() == GameState.IN_PROGRESS) {
+                    Player player = mediator.getCurrentPlayer();
+                    int count = mediator.generateMoves(moves);
+                    int expectedCount = enumerate(mediator.getTopCard(), mediator.getActiveColor(),
+                            player.getHandView(), expected);
+                    compare(moves, count, expected, expectedCount);
+                    gamePositions++;
+                }
+                mediator.advance();
+            }
+        }
+
+        SplittableRandom random = new SplittableRandom(SEED);
+        FixedView view = new FixedView();
+        Hand hand = new Hand();
+        int[] ids = new int[CardRegistry.DECK_SIZE];
+        for (int id = 0; id < ids.length; id++) {
+            ids[id] = id;
+        }
+        for (int position = 0; position < randomPositions; position++) {
+            // A random hand, and a top card and active color drawn from the rest of the deck
+            for (int i = ids.length - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int swap = ids[i];
+                ids[i] = ids[j];
+                ids[j] = swap;
+            }
+            int handSize = random.nextInt(CardRegistry.DECK_SIZE);
+            hand.clear();
+            for (int i = 0; i < handSize; i++) {
+                hand.add(CardRegistry.get(ids[i]));
+            }
+            view.topCard = CardRegistry.get(ids[handSize]);
+            view.activeColor = CardColor.of(random.nextInt(CardColor.COUNT));
+
+            int count = MoveGenerator.generate(view, hand, moves);
+            int expectedCount = enumerate(view.topCard, view.activeColor, hand.getCards(), expected);
+            compare(moves, count, expected, expectedCount);
+        }
+
+        System.out.printf("MoveGenerator matches the reference: %d game positions, %d random positions, MAX_MOVES %d%n",
+                gamePositions, randomPositions, MoveGenerator.MAX_MOVES);
+    }
+
+    /**
+     * Checks that every card and color survive encoding, that DRAW decodes to no card,
+     * and that MAX_MOVES is the number of moves of a hand holding every card if all of them were legal.
+     *
+     * @throws IllegalStateException if any check fails
+     */
+    private static void checkEncoding() {
+        int bound = 1;
+        for (int id = 0; id < CardRegistry.DECK_SIZE; id++) {
+            Card card = CardRegistry.get(id);
+            bound += isWild(card) ? CardColor.DECLARABLE_COUNT : 1;
+            for (int ordinal = 0; ordinal < CardColor.COUNT; ordinal++) {
+                CardColor color = CardColor.of(ordinal);
+                int move = MoveGenerator.encode(id, color);
+                if (move == MoveGenerator.DRAW || MoveGenerator.cardId(move) != id || MoveGenerator.color(move) != color) {
+                    throw new IllegalStateException("Move encoding does not round-trip for card " + id + " and " + color);
+                }
+            }
+        }
+        if (bound != MoveGenerator.MAX_MOVES) {
+            throw new IllegalStateException("MAX_MOVES is " + MoveGenerator.MAX_MOVES + " but the deck allows " + bound);
+        }
+    }
+
+    /**
+     * Lists the legal moves of a position by applying the rules to each card.
+     *
+     * @param topCard The top card
+     * @param activeColor The active color
+     * @param hand The cards of the player to move
+     * @param moves The buffer that receives the moves
+     * @return The number of moves written
+     */
+    private static int enumerate(Card topCard, CardColor activeColor, List<Card> hand, int[] moves) {
+        boolean holdsActiveColor = false;
+        for (Card card : hand) {
+            holdsActiveColor |= card.getCardColor() == activeColor;
+        }
+
+        int count = 0;
+        for (Card card : hand) {
+            boolean playable = isWild(card)
+                    || card.getCardColor() == activeColor
+                    || card.getKind() == topCard.getKind();
+            if (card.getKind() == CardKind.WILD_DRAW_FOUR && activeColor != CardColor.NONE && holdsActiveColor) {
+                playable = false;
+            }
+            if (!playable) {
+                continue;
+            }
+            if (isWild(card)) {
+                for (int ordinal = 0; ordinal < CardColor.DECLARABLE_COUNT; ordinal++) {
+                    moves[count++] = MoveGenerator.encode(card.getId(), CardColor.of(ordinal));
+                }
+            } else {
+                moves[count++] = MoveGenerator.encode(card.getId(), CardColor.NONE);
+            }
+        }
+        moves[count++] = MoveGenerator.DRAW;
+        return count;
+    }
+
+    /**
+     * Compares the generated moves with the reference as sets, and checks that the draw comes last.
+     *
+     * @param moves The generated moves
+     * @param count The number of generated moves
+     * @param expected The reference moves
+     * @param expectedCount The number of reference moves
+     * @throws IllegalStateException if they differ
+     */
+    private static void compare(int[] moves, int count, int[] expected, int expectedCount) {
+        if (count > MoveGenerator.MAX_MOVES || moves[count - 1] != MoveGenerator.DRAW) {
+            throw new IllegalStateException("Generated " + count + " moves, the last of which is not the draw");
+        }
+        int[] generated = Arrays.copyOf(moves, count);
+        int[] reference = Arrays.copyOf(expected, expectedCount);
+        Arrays.sort(generated);
+        Arrays.sort(reference);
+        if (!Arrays.equals(generated, reference)) {
+            throw new IllegalStateException("Generated " + Arrays.toString(generated)
+                    + " but the reference is " + Arrays.toString(reference));
+        }
+    }
+
+    /**
+     * Checks whether a card is a Wild or Wild Draw Four card.
+     *
+     * @param card The card
+     * @return True for both kinds of Wild card
+     */
+    private static boolean isWild(Card card) {
+        return card.getKind() == CardKind.WILD || card.getKind() == CardKind.WILD_DRAW_FOUR;
+    }
+
+    /**
+     * Game view with a settable top card and active color.
+     */
+    private static class FixedView implements GameView {
+        private final SplittableRandom random = new SplittableRandom(SEED);
+        private Card topCard;
+        private CardColor activeColor = CardColor.NONE;
+
+        @Override
+        public Card getTopCard() {
+            return topCard;
+        }
+
+        @Override
+        public CardColor getActiveColor() {
+            return activeColor;
+        }
+
+        @Override
+        public int getPlayerCount() {
+            return 2;
+        }
+
+        @Override
+        public int getCurrentSeat() {
+            return 0;
+        }
+
+        @Override
+        public int getHandSize(int seat) {
+            return 0;
+        }
+
+        @Override
+        public boolean isClockwise() {
+            return true;
+        }
+
+        @Override
+        public SplittableRandom getRandom() {
+            return random;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package main.java.benchmarks;
+
+import java.util.SplittableRandom;
+
+import main.java.cards.Card;
+import main.java.cards.CardColor;
+import main.java.cards.CardMasks;
+import main.java.cards.CardRegistry;
+import main.java.cards.PlayabilityTable;
+
+/**
+ * Microbenchmark comparing card matching through the precomputed PlayabilityTable
+ * with the previous approach of comparing color and type strings and running a
+ * regular expression to tell number cards from action cards.
+ */
+public class PlayabilityBenchmark {
+    private static final int SAMPLES = 4096;
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args Not used
+     */
+    public static void main(String[] args) {
+        SplittableRandom random = new SplittableRandom(42);
+        Card[] cards = new Card[SAMPLES];
+        Card[] topCards = new Card[SAMPLES];
+        CardColor[] activeColors = new CardColor[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            cards[i] = CardRegistry.get(random.nextInt(CardRegistry.DECK_SIZE));
+            topCards[i] = CardRegistry.get(random.nextInt(CardRegistry.DECK_SIZE));
+            activeColors[i] = CardColor.of(random.nextInt(CardColor.COUNT));
+        }
+
+        BenchmarkHarness.printHeader();
+        BenchmarkHarness.measure("string equals + regex (" + SAMPLES + " cards)", 2_000, () -> {
+            long matches = 0;
+            for (int i = 0; i < SAMPLES; i++) {
+                Card card = cards[i];
+                String activeColor = activeColors[i].getDisplayName();
+                if (card.getColor().equals(activeColor)
+                        || card.getType().equals(topCards[i].getType())
+                        || card.getType().equals("Wild")
+                        || card.getType().equals("Wild Draw Four")) {
+                    matches++;
+                }
+                if (!card.getType().matches("\\d+")) {
+                    matches++;
+                }
+            }
+            return matches;
+        });
+        BenchmarkHarness.measure("playability table (" + SAMPLES + " cards)", 2_000, () -> {
+            long matches = 0;
+            for (int i = 0; i < SAMPLES; i++) {
+                int cardId = cards[i].getId();
+                if (PlayabilityTable.isPlayable(PlayabilityTable.state(activeColors[i], topCards[i].getId()), cardId)) {
+                    matches++;
+                }
+                if (!CardMasks.isNumberCard(cardId)) {
+                    matches++;
+                }
+            }
+            return matches;
+        });
+    }
+}
@@ -0,0 +1,73 @@
+package main.java.benchmarks;
+
+import java.util.SplittableRandom;
+
+import main.java.simulation.GameTable;
+import main.java.simulation.LatencyStats;
+import main.java.simulation.TableHost;
+
+/**
+ * Benchmark for hosting many concurrent tables in one JVM.
+ * Reports the heap retained per idle table and the turn latency distribution,
+ * measured from the moment a player decision becomes available until the turn is complete.
+ *
+ * <p>Usage: {@code TableHostBenchmark [tables] [decisionDelayMillis] [seconds] [seed]}</p>
+ */
+public class TableHostBenchmark {
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args Optional: number of tables, decision delay in milliseconds, measurement time in seconds, host seed
+     * @throws InterruptedException if interrupted while waiting for the tables
+     */
+    public static void main(String[] args) throws InterruptedException {
+        int tableCount = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        long decisionDelayMillis = args.length > 1 ? Long.parseLong(args[1]) : 100;
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : new SplittableRandom().nextLong();
+
+        long baseline = usedHeap();
+        TableHost host = new TableHost(tableCount, 4, decisionDelayMillis, seed);
+        host.start();
+
+        // Let every table reach its first decision wait before measuring idle memory
+        Thread.sleep(decisionDelayMillis / 2 + 1);
+        long idle = usedHeap();
+
+        Thread.sleep(seconds * 1000L);
+        host.stop();
+
+        LatencyStats latency = new LatencyStats();
+        long games = 0;
+        for (GameTable table : host.getTables()) {
+            latency.merge(table.getLatency());
+            games += table.getGamesCompleted();
+        }
+
+        System.out.printf("Tables: %d, decision delay: %d ms, driver: %s, seed: %d%n", tableCount, decisionDelayMillis,
+                host.usesVirtualThreads() ? "virtual threads" : "scheduler fallback", seed);
+        System.out.printf("Memory per idle table: %.1f KB%n", (idle - baseline) / 1024.0 / tableCount);
+        System.out.printf("Turns: %d (%.0f/sec), games completed: %d, failed tables: %d%n",
+                latency.getCount(), latency.getCount() / (double) seconds, games, host.getFailedTableCount());
+        System.out.printf("Turn latency: mean %.1f us, p50 <= %.1f us, p99 <= %.1f us, p99.9 <= %.1f us, max %.1f us%n",
+                latency.getMeanNanos() / 1000.0,
+                latency.getPercentileNanos(50) / 1000.0,
+                latency.getPercentileNanos(99) / 1000.0,
+                latency.getPercentileNanos(99.9) / 1000.0,
+                latency.getMaxNanos() / 1000.0);
+    }
+
+    /**
+     * Measures the heap in use after requesting a full collection.
+     *
+     * @return The used heap in bytes
+     */
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -5,60 +5,88 @@ import main.java.game.GameMediator;
 /**
  * Abstract Card class forms the base for all card types in the game.
  * Implements abstraction by defining common structure and behavior for all cards.
- * Each card has a color, type, and value.
+ * Each card has an id, color, kind, and value.
+ * 
+ * <p>Cards are immutable flyweights: every physical card exists once in the
+ * {@link CardRegistry} and the same instance is shared by all games. Per-game state,
+ * such as the color declared for a Wild card, is kept by the mediator.</p>
  */
 public abstract class Card {
-    protected String color;
-    protected String type;
-    protected int value;
-    protected GameMediator mediator;
+    /** Id of a card that is not part of the card registry */
+    public static final int NO_ID = -1;
+    
+    protected final int id;
+    protected final CardColor color;
+    protected final CardKind kind;
+    protected final int value;
 
     /**
-     * Constructs a new card with the given color, type, and value.
+     * Constructs a new card with the given id, color, kind, and value.
      *
-     * @param color The color of the card (e.g., "Red", "Blue")
-     * @param type The type of the card (e.g., "1", "Skip")
+     * @param id The registry id of the card, or NO_ID
+     * @param color The color of the card, NONE for Wild cards
+     * @param kind The kind of the card (e.g., ONE, SKIP)
      * @param value The point value of the card
      */
-    public Card(String color, String type, int value) {
+    public Card(int id, CardColor color, CardKind kind, int value) {
+        this.id = id;
         this.color = color;
-        this.type = type;
+        this.kind = kind;
         this.value = value;
     }
 
     /**
-     * Applies the effect of this card.
+     * Applies the effect of this card to the given game.
      * This is a template method that must be implemented by subclasses.
      * Implements polymorphism through different implementations in subclasses.
+     *
+     * @param mediator The mediator of the game in which the card was played
      */
-    public abstract void applyEffect();
+    public abstract void applyEffect(GameMediator mediator);
 
     /**
-     * Sets the game mediator for this card.
-     * This allows the card to interact with the game state when its effect is applied.
+     * Gets the registry id of this card.
      *
-     * @param mediator The game mediator
+     * @return The card's id, or NO_ID if the card is not part of the registry
      */
-    public void setMediator(GameMediator mediator) {
-        this.mediator = mediator;
+    public int getId() {
+        return id;
     }
 
     /**
      * Gets the color of this card.
      *
-     * @return The card's color
+     * @return The card's color, NONE for Wild cards
      */
-    public String getColor() {
+    public CardColor getCardColor() {
         return color;
     }
 
     /**
-     * Gets the type of this card.
+     * Gets the kind of this card.
+     *
+     * @return The card's kind
+     */
+    public CardKind getKind() {
+        return kind;
+    }
+
+    /**
+     * Gets the name of this card's color as shown to players.
+     *
+     * @return The card's color name, or an empty string for Wild cards
+     */
+    public String getColor() {
+        return color.getDisplayName();
+    }
+
+    /**
+     * Gets the name of this card's kind as shown to players.
      *
-     * @return The card's type
+     * @return The card's type (e.g., "1", "Skip")
      */
     public String getType() {
-        return type;
+        return kind.getDisplayName();
     }
 
     /**
@@ -77,6 +105,6 @@ public abstract class Card {
      */
     @Override
     public String toString() {
-        return color + " " + type;
+        return color.getDisplayName() + " " + kind.getDisplayName();
     }
 } 
\ No newline at end of file
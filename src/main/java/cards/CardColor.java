@@ -0,0 +1,47 @@
+package main.java.cards;
+
+/**
+ * CardColor enumerates the colors a card can have.
+ * The ordinals double as indexes into the per-color tables of CardMasks and PlayabilityTable,
+ * so NONE, the color of Wild cards, must stay last.
+ */
+public enum CardColor {
+    RED("Red"),
+    GREEN("Green"),
+    BLUE("Blue"),
+    YELLOW("Yellow"),
+    NONE("");
+
+    /** Number of colors, including NONE */
+    public static final int COUNT = 5;
+
+    /** Number of colors that can be declared for a Wild card (every color except NONE) */
+    public static final int DECLARABLE_COUNT = 4;
+
+    private static final CardColor[] VALUES = values();
+
+    private final String displayName;
+
+    CardColor(String displayName) {
+        this.displayName = displayName;
+    }
+
+    /**
+     * Gets the color with the given ordinal without copying the values array.
+     *
+     * @param ordinal The ordinal of the color
+     * @return The color
+     */
+    public static CardColor of(int ordinal) {
+        return VALUES[ordinal];
+    }
+
+    /**
+     * Gets the name of the color as shown to players.
+     *
+     * @return The color name, or an empty string for NONE
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+}
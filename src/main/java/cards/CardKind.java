@@ -0,0 +1,76 @@
+package main.java.cards;
+
+/**
+ * CardKind enumerates what is printed on a card: a number from 0 to 9 or an action.
+ * The ordinals double as indexes into the per-kind tables of CardMasks and PlayabilityTable.
+ */
+public enum CardKind {
+    ZERO("0"),
+    ONE("1"),
+    TWO("2"),
+    THREE("3"),
+    FOUR("4"),
+    FIVE("5"),
+    SIX("6"),
+    SEVEN("7"),
+    EIGHT("8"),
+    NINE("9"),
+    SKIP("Skip"),
+    REVERSE("Reverse"),
+    DRAW_TWO("Draw Two"),
+    WILD("Wild"),
+    WILD_DRAW_FOUR("Wild Draw Four"),
+    SHUFFLE_HANDS("Shuffle Hands");
+
+    /** Number of kinds */
+    public static final int COUNT = 16;
+
+    private static final CardKind[] VALUES = values();
+
+    private final String displayName;
+
+    CardKind(String displayName) {
+        this.displayName = displayName;
+    }
+
+    /**
+     * Gets the kind of a number card.
+     *
+     * @param number The number on the card (0-9)
+     * @return The kind for that number
+     * @throws IllegalArgumentException if the number is out of range
+     */
+    public static CardKind number(int number) {
+        if (number < 0 || number > 9) {
+            throw new IllegalArgumentException("Card number must be between 0 and 9: " + number);
+        }
+        return VALUES[number];
+    }
+
+    /**
+     * Checks whether this is the kind of a number card, i.e. a card without an effect.
+     *
+     * @return True for 0-9, false for action cards
+     */
+    public boolean isNumber() {
+        return ordinal() <= NINE.ordinal();
+    }
+
+    /**
+     * Checks whether cards of this kind can be played on any color.
+     *
+     * @return True for Wild and Wild Draw Four
+     */
+    public boolean isWild() {
+        return this == WILD || this == WILD_DRAW_FOUR;
+    }
+
+    /**
+     * Gets the name of the kind as shown to players.
+     *
+     * @return The kind name
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+}
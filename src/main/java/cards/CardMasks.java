@@ -0,0 +1,124 @@
+package main.java.cards;
+
+/**
+ * CardMasks provides precomputed bit masks over registry card ids.
+ * A set of registry cards fits in two longs: ids 0-63 map to the bits of the low word
+ * and ids 64-107 to the bits of the high word. Set operations such as
+ * "which of these cards are playable" then reduce to a couple of AND operations.
+ */
+public final class CardMasks {
+    /** Number of colors, including the NONE color of Wild cards */
+    public static final int COLOR_COUNT = CardColor.COUNT;
+
+    /** Number of distinct card kinds */
+    public static final int TYPE_COUNT = CardKind.COUNT;
+
+    private static final long[] COLOR_LOW = new long[COLOR_COUNT];
+    private static final long[] COLOR_HIGH = new long[COLOR_COUNT];
+    private static final long[] TYPE_LOW = new long[TYPE_COUNT];
+    private static final long[] TYPE_HIGH = new long[TYPE_COUNT];
+    private static final int[] TYPE_INDEX = new int[CardRegistry.DECK_SIZE];
+    private static final boolean[] NUMBER_CARD = new boolean[CardRegistry.DECK_SIZE];
+
+    /** Cards that are playable on anything (Wild and Wild Draw Four) */
+    public static final long WILD_LOW;
+    public static final long WILD_HIGH;
+
+    /** Wild Draw Four cards only */
+    public static final long WILD_DRAW_FOUR_LOW;
+    public static final long WILD_DRAW_FOUR_HIGH;
+
+    /** Regular Wild cards only */
+    public static final long PLAIN_WILD_LOW;
+    public static final long PLAIN_WILD_HIGH;
+
+    static {
+        for (int id = 0; id < CardRegistry.DECK_SIZE; id++) {
+            Card card = CardRegistry.get(id);
+            int color = card.getCardColor().ordinal();
+            int type = card.getKind().ordinal();
+            TYPE_INDEX[id] = type;
+            NUMBER_CARD[id] = card.getKind().isNumber();
+            if (id < 64) {
+                COLOR_LOW[color] |= 1L << id;
+                TYPE_LOW[type] |= 1L << id;
+            } else {
+                COLOR_HIGH[color] |= 1L << (id - 64);
+                TYPE_HIGH[type] |= 1L << (id - 64);
+            }
+        }
+
+        int wild = CardKind.WILD.ordinal();
+        int wildDrawFour = CardKind.WILD_DRAW_FOUR.ordinal();
+        PLAIN_WILD_LOW = TYPE_LOW[wild];
+        PLAIN_WILD_HIGH = TYPE_HIGH[wild];
+        WILD_DRAW_FOUR_LOW = TYPE_LOW[wildDrawFour];
+        WILD_DRAW_FOUR_HIGH = TYPE_HIGH[wildDrawFour];
+        WILD_LOW = PLAIN_WILD_LOW | WILD_DRAW_FOUR_LOW;
+        WILD_HIGH = PLAIN_WILD_HIGH | WILD_DRAW_FOUR_HIGH;
+    }
+
+    private CardMasks() {
+        // Static tables, not instantiable
+    }
+
+    /**
+     * Gets the type index of a registry card, the ordinal of its kind.
+     *
+     * @param id The registry id of the card
+     * @return The card's type index, between 0 and TYPE_COUNT - 1
+     */
+    public static int typeOf(int id) {
+        return TYPE_INDEX[id];
+    }
+
+    /**
+     * Checks whether a registry card is a number card, i.e. has no effect when played.
+     *
+     * @param id The registry id of the card
+     * @return True for number cards, false for action cards
+     */
+    public static boolean isNumberCard(int id) {
+        return NUMBER_CARD[id];
+    }
+
+    /**
+     * Gets the low word of the mask of all cards with the given color.
+     *
+     * @param color The color
+     * @return The low mask word
+     */
+    public static long colorLow(CardColor color) {
+        return COLOR_LOW[color.ordinal()];
+    }
+
+    /**
+     * Gets the high word of the mask of all cards with the given color.
+     *
+     * @param color The color
+     * @return The high mask word
+     */
+    public static long colorHigh(CardColor color) {
+        return COLOR_HIGH[color.ordinal()];
+    }
+
+    /**
+     * Gets the low word of the mask of all cards with the same type as the given card.
+     *
+     * @param id The registry id of the card
+     * @return The low mask word
+     */
+    public static long sameTypeLow(int id) {
+        return TYPE_LOW[TYPE_INDEX[id]];
+    }
+
+    /**
+     * Gets the high word of the mask of all cards with the same type as the given card.
+     *
+     * @param id The registry id of the card
+     * @return The high mask word
+     */
+    public static long sameTypeHigh(int id) {
+        return TYPE_HIGH[TYPE_INDEX[id]];
+    }
+}
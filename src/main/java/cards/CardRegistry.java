@@ -0,0 +1,76 @@
+package main.java.cards;
+
+import main.java.cards.actioncards.DrawTwoCard;
+import main.java.cards.actioncards.ReverseCard;
+import main.java.cards.actioncards.SkipCard;
+import main.java.cards.actioncards.WildCard;
+import main.java.cards.actioncards.WildDrawFourCard;
+
+/**
+ * CardRegistry holds the canonical instance of every physical card in a standard UNO deck.
+ * Each card is identified by a compact id between 0 and DECK_SIZE - 1 and is created exactly once,
+ * so decks, piles and hands of every game share the same immutable instances.
+ *
+ * <p>Ids are assigned color by color (Red, Green, Blue, Yellow), each color holding
+ * one 0, two each of 1-9, and two each of Skip, Reverse and Draw Two. The four Wild cards
+ * and the four Wild Draw Four cards follow.</p>
+ */
+public final class CardRegistry {
+    /** Number of cards in a standard UNO deck */
+    public static final int DECK_SIZE = 108;
+
+    private static final Card[] CARDS = new Card[DECK_SIZE];
+
+    static {
+        int id = 0;
+        for (int ordinal = 0; ordinal < CardColor.DECLARABLE_COUNT; ordinal++) {
+            CardColor color = CardColor.of(ordinal);
+            CARDS[id] = new NumberCard(id, color, 0);
+            id++;
+
+            for (int value = 1; value <= 9; value++) {
+                CARDS[id] = new NumberCard(id, color, value);
+                id++;
+                CARDS[id] = new NumberCard(id, color, value);
+                id++;
+            }
+
+            for (int copy = 0; copy < 2; copy++) {
+                CARDS[id] = new SkipCard(id, color);
+                id++;
+            }
+            for (int copy = 0; copy < 2; copy++) {
+                CARDS[id] = new ReverseCard(id, color);
+                id++;
+            }
+            for (int copy = 0; copy < 2; copy++) {
+                CARDS[id] = new DrawTwoCard(id, color);
+                id++;
+            }
+        }
+
+        for (int copy = 0; copy < 4; copy++) {
+            CARDS[id] = new WildCard(id);
+            id++;
+        }
+        for (int copy = 0; copy < 4; copy++) {
+            CARDS[id] = new WildDrawFourCard(id);
+            id++;
+        }
+    }
+
+    private CardRegistry() {
+        // Static registry, not instantiable
+    }
+
+    /**
+     * Gets the canonical card with the given id.
+     *
+     * @param id The card id
+     * @return The shared card instance
+     * @throws ArrayIndexOutOfBoundsException if the id is not a registry id
+     */
+    public static Card get(int id) {
+        return CARDS[id];
+    }
+}
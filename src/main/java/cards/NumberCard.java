@@ -1,5 +1,7 @@
 package main.java.cards;
 
+import main.java.game.GameMediator;
+
 /**
  * NumberCard represents the number cards in the UNO deck.
  * It extends the abstract Card class and provides a concrete implementation 
@@ -9,13 +11,14 @@ public class NumberCard extends Card {
     
     /**
      * Constructs a new NumberCard with the specified color and number.
-     * The number is used as both the type and value of the card.
+     * The number determines both the kind and the value of the card.
      * 
+     * @param id The registry id of the card
      * @param color The color of the card
      * @param number The number on the card (0-9)
      */
-    public NumberCard(String color, int number) {
-        super(color, number + "", number);
+    public NumberCard(int id, CardColor color, int number) {
+        super(id, color, CardKind.number(number), number);
     }
     
     /**
@@ -23,7 +26,7 @@ public class NumberCard extends Card {
      * This is a concrete implementation of the abstract method from Card.
      */
     @Override
-    public void applyEffect() {
+    public void applyEffect(GameMediator mediator) {
         // Number cards have no special effect
     }
 } 
\ No newline at end of file
@@ -0,0 +1,75 @@
+package main.java.cards;
+
+/**
+ * PlayabilityTable answers "can this card be played now" with a single table lookup.
+ *
+ * <p>Whether a card is playable depends only on the active color and the type of the top card,
+ * so every combination is a small integer state. For each state the table holds the id bitset
+ * of all playable cards: the cards of the active color, the cards of the same type as the top card,
+ * and the Wild cards. The table is built once; matching never compares strings.</p>
+ */
+public final class PlayabilityTable {
+    private static final int STATE_COUNT = CardMasks.COLOR_COUNT * CardMasks.TYPE_COUNT;
+
+    private static final long[] PLAYABLE_LOW = new long[STATE_COUNT];
+    private static final long[] PLAYABLE_HIGH = new long[STATE_COUNT];
+
+    static {
+        for (int ordinal = 0; ordinal < CardColor.COUNT; ordinal++) {
+            CardColor color = CardColor.of(ordinal);
+            for (int id = 0; id < CardRegistry.DECK_SIZE; id++) {
+                int state = state(color, id);
+                PLAYABLE_LOW[state] = CardMasks.colorLow(color) | CardMasks.sameTypeLow(id) | CardMasks.WILD_LOW;
+                PLAYABLE_HIGH[state] = CardMasks.colorHigh(color) | CardMasks.sameTypeHigh(id) | CardMasks.WILD_HIGH;
+            }
+        }
+    }
+
+    private PlayabilityTable() {
+        // Static table, not instantiable
+    }
+
+    /**
+     * Gets the table state for the current top of the discard pile.
+     *
+     * @param activeColor The active color
+     * @param topCardId The registry id of the top card
+     * @return The state index
+     */
+    public static int state(CardColor activeColor, int topCardId) {
+        return activeColor.ordinal() * CardMasks.TYPE_COUNT + CardMasks.typeOf(topCardId);
+    }
+
+    /**
+     * Gets the low word of the bitset of cards playable in a state.
+     *
+     * @param state The state index
+     * @return The bits for ids 0-63
+     */
+    public static long playableLow(int state) {
+        return PLAYABLE_LOW[state];
+    }
+
+    /**
+     * Gets the high word of the bitset of cards playable in a state.
+     *
+     * @param state The state index
+     * @return The bits for ids 64-107
+     */
+    public static long playableHigh(int state) {
+        return PLAYABLE_HIGH[state];
+    }
+
+    /**
+     * Checks whether a card is playable in a state.
+     *
+     * @param state The state index
+     * @param cardId The registry id of the card
+     * @return True if the card may be played
+     */
+    public static boolean isPlayable(int state, int cardId) {
+        return cardId < 64
+                ? (PLAYABLE_LOW[state] & (1L << cardId)) != 0
+                : (PLAYABLE_HIGH[state] & (1L << (cardId - 64))) != 0;
+    }
+}
@@ -1,6 +1,9 @@
 package main.java.cards.actioncards;
 
 import main.java.cards.Card;
+import main.java.cards.CardColor;
+import main.java.cards.CardKind;
+import main.java.game.GameMediator;
 /**
  * ActionCard is the abstract base class for all cards with special effects.
  * It extends Card and represents a higher level of abstraction for action cards.
@@ -9,14 +12,15 @@ import main.java.cards.Card;
 public abstract class ActionCard extends Card {
     
     /**
-     * Constructs a new ActionCard with the given color, type, and value.
+     * Constructs a new ActionCard with the given id, color, kind, and value.
      * 
+     * @param id The registry id of the card
      * @param color The color of the card
-     * @param type The type/name of the action card
+     * @param kind The kind of the action card
      * @param value The point value of the card
      */
-    public ActionCard(String color, String type, int value) {
-        super(color, type, value);
+    public ActionCard(int id, CardColor color, CardKind kind, int value) {
+        super(id, color, kind, value);
     }
     
     /**
@@ -24,5 +28,5 @@ public abstract class ActionCard extends Card {
      * This achieves polymorphism through different implementations in subclasses.
      */
     @Override
-    public abstract void applyEffect();
+    public abstract void applyEffect(GameMediator mediator);
 } 
\ No newline at end of file
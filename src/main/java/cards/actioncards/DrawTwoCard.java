@@ -1,6 +1,10 @@
 package main.java.cards.actioncards;
 
+import main.java.cards.CardColor;
+import main.java.cards.CardKind;
+import main.java.game.GameMediator;
 import main.java.players.Player;
+import main.java.ui.GameUI;
 
 /**
  * DrawTwoCard represents a Draw Two card in UNO which forces the next player to 
@@ -12,10 +16,11 @@ public class DrawTwoCard extends ActionCard {
     /**
      * Constructs a new Draw Two card with the specified color and a value of 20 points.
      * 
+     * @param id The registry id of the card
      * @param color The color of the Draw Two card
      */
-    public DrawTwoCard(String color) {
-        super(color, "Draw Two", 20);
+    public DrawTwoCard(int id, CardColor color) {
+        super(id, color, CardKind.DRAW_TWO, 20);
     }
 
     /**
@@ -23,12 +28,13 @@ public class DrawTwoCard extends ActionCard {
      * and lose their turn.
      */
     @Override
-    public void applyEffect() {
+    public void applyEffect(GameMediator mediator) {
         if (mediator == null) {
             throw new IllegalStateException("Card not connected to a game mediator");
         }
         
-        Player nextPlayer = mediator.getNextPlayer();
+        int nextSeat = mediator.getNextSeat();
+        Player nextPlayer = mediator.getPlayer(nextSeat);
         
         // Force next player to draw 2 cards
         for (int i = 0; i < 2; i++) {
@@ -36,7 +42,10 @@ public class DrawTwoCard extends ActionCard {
         }
         
         // Skip the next player's turn
-        mediator.setCurrentPlayer(mediator.getNextPlayer());
-        System.out.println(nextPlayer.getName() + " draws 2 cards and loses their turn!");
+        mediator.setCurrentSeat(nextSeat);
+        GameUI ui = mediator.getUI();
+        if (ui != null) {
+            ui.displayDrawTwo(nextPlayer.getName());
+        }
     }
 } 
\ No newline at end of file
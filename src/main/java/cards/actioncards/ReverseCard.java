@@ -1,6 +1,9 @@
 package main.java.cards.actioncards;
 
-import main.java.utils.ConsoleColors;
+import main.java.cards.CardColor;
+import main.java.cards.CardKind;
+import main.java.game.GameMediator;
+import main.java.ui.GameUI;
 
 /**
  * ReverseCard represents a Reverse card in UNO which changes the direction of play.
@@ -11,21 +14,25 @@ public class ReverseCard extends ActionCard {
     /**
      * Constructs a new Reverse card with the specified color and a value of 20 points.
      * 
+     * @param id The registry id of the card
      * @param color The color of the Reverse card
      */
-    public ReverseCard(String color) {
-        super(color, "Reverse", 20);
+    public ReverseCard(int id, CardColor color) {
+        super(id, color, CardKind.REVERSE, 20);
     }
 
     /**
      * Applies the Reverse card effect by switching the direction of play.
      */
     @Override
-    public void applyEffect() {
+    public void applyEffect(GameMediator mediator) {
         if (mediator == null) {
             throw new IllegalStateException("Card not connected to a game mediator");
         }
         mediator.switchDirection();
-        System.out.println(ConsoleColors.CYAN_BOLD + "↩️ Direction of play has been reversed! ↩️" + ConsoleColors.RESET);
+        GameUI ui = mediator.getUI();
+        if (ui != null) {
+            ui.displayDirectionReversed();
+        }
     }
 } 
\ No newline at end of file
@@ -1,6 +1,9 @@
 package main.java.cards.actioncards;
 
-import main.java.utils.ConsoleColors;
+import main.java.cards.CardColor;
+import main.java.cards.CardKind;
+import main.java.game.GameMediator;
+import main.java.ui.GameUI;
 
 /**
  * ShuffleHandsCard represents a special action card that shuffles all players' hands.
@@ -11,21 +14,26 @@ public class ShuffleHandsCard extends ActionCard {
 
     /**
      * Constructs a new Shuffle Hands card with no specific color and a value of 50 points.
+     * 
+     * @param id The registry id of the card, or NO_ID
      */
-    public ShuffleHandsCard() {
-        super("", "Shuffle Hands", 50); // Special card, no specific color
+    public ShuffleHandsCard(int id) {
+        super(id, CardColor.NONE, CardKind.SHUFFLE_HANDS, 50); // Special card, no specific color
     }
 
     /**
      * Applies the Shuffle Hands effect by redistributing all cards among players.
      */
     @Override
-    public void applyEffect() {
+    public void applyEffect(GameMediator mediator) {
         if (mediator == null) {
             throw new IllegalStateException("Card not connected to a game mediator");
         }
         
-        System.out.println(ConsoleColors.YELLOW_BOLD + "Shuffle Hands card played! All hands will be collected, shuffled, and redistributed." + ConsoleColors.RESET);
+        GameUI ui = mediator.getUI();
+        if (ui != null) {
+            ui.displayShuffleHands();
+        }
         mediator.redistributeHands();
     }
 } 
\ No newline at end of file
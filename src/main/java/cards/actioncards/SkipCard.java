@@ -1,7 +1,10 @@
 package main.java.cards.actioncards;
 
+import main.java.cards.CardColor;
+import main.java.cards.CardKind;
+import main.java.game.GameMediator;
 import main.java.players.Player;
-import main.java.utils.ConsoleColors;
+import main.java.ui.GameUI;
 
 /**
  * SkipCard represents a Skip card in UNO which causes the next player to lose their turn.
@@ -12,10 +15,11 @@ public class SkipCard extends ActionCard {
     /**
      * Constructs a new Skip card with the specified color and a value of 20 points.
      * 
+     * @param id The registry id of the card
      * @param color The color of the Skip card
      */
-    public SkipCard(String color) {
-        super(color, "Skip", 20);
+    public SkipCard(int id, CardColor color) {
+        super(id, color, CardKind.SKIP, 20);
     }
 
     /**
@@ -23,13 +27,17 @@ public class SkipCard extends ActionCard {
      * effectively skipping one player's turn.
      */
     @Override
-    public void applyEffect() {
+    public void applyEffect(GameMediator mediator) {
         if (mediator == null) {
             throw new IllegalStateException("Card not connected to a game mediator");
         }
         
-        Player skippedPlayer = mediator.getNextPlayer();
-        mediator.setCurrentPlayer(mediator.getNextPlayer());
-        System.out.println(ConsoleColors.YELLOW_BOLD + "🚫 " + skippedPlayer.getName() + "'s turn has been skipped! 🚫" + ConsoleColors.RESET);
+        int skippedSeat = mediator.getNextSeat();
+        Player skippedPlayer = mediator.getPlayer(skippedSeat);
+        mediator.setCurrentSeat(skippedSeat);
+        GameUI ui = mediator.getUI();
+        if (ui != null) {
+            ui.displayTurnSkipped(skippedPlayer.getName());
+        }
     }
 } 
\ No newline at end of file
@@ -1,13 +1,10 @@
 package main.java.cards.actioncards;
 
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ThreadLocalRandom;
-
-import main.java.cards.Card;
+import main.java.cards.CardColor;
+import main.java.cards.CardKind;
+import main.java.game.GameMediator;
 import main.java.players.Player;
-import main.java.utils.ConsoleColors;
+import main.java.ui.GameUI;
 
 /**
  * WildCard represents a Wild card in UNO which allows the player to change the current color.
@@ -16,80 +13,44 @@ import main.java.utils.ConsoleColors;
 public class WildCard extends ActionCard {
 
     /**
-     * Constructs a new Wild card with no initial color and a value of 50 points.
+     * Constructs a new Wild card with no color and a value of 50 points.
+     * 
+     * @param id The registry id of the card
+     */
+    public WildCard(int id) {
+        this(id, CardKind.WILD);
+    }
+    
+    /**
+     * Constructs a new wild card of the given kind with no color and a value of 50 points.
+     * Used by subclasses that share the color declaration.
+     * 
+     * @param id The registry id of the card
+     * @param kind The kind of the wild card
      */
-    public WildCard() {
-        super("", "Wild", 50); // No color initially
+    protected WildCard(int id, CardKind kind) {
+        super(id, CardColor.NONE, kind, 50); // Wild cards never have a color of their own
     }
 
     /**
-     * Applies the Wild card effect by selecting a new color based on the current player's hand.
-     * The color is selected to maximize the player's advantage (most common color in hand).
+     * Applies the Wild card effect by letting the current player's strategy select a new color.
+     * The chosen color is declared to the mediator; the shared card itself stays colorless.
      */
     @Override
-    public void applyEffect() {
+    public void applyEffect(GameMediator mediator) {
         if (mediator == null) {
             throw new IllegalStateException("Card not connected to a game mediator");
         }
         
         Player currentPlayer = mediator.getCurrentPlayer();
-        String chosenColor = selectColorBasedOnPlayerHand(currentPlayer);
-        
-        // Set the color of the card
-        this.color = chosenColor;
-        
-        System.out.println(ConsoleColors.highlight("🌈 " + currentPlayer.getName() + " changes color to " + 
-            ConsoleColors.formatColor(chosenColor) + "! 🌈"));
-    }
-    
-    /**
-     * Selects a color based on the player's hand.
-     * Chooses the color the player has the most cards of, or randomly if tied.
-     * 
-     * @param player The player who played the card
-     * @return The selected color
-     */
-    protected String selectColorBasedOnPlayerHand(Player player) {
-        List<Card> hand = player.getHand();
-        
-        // Count cards by color
-        Map<String, Integer> colorCounts = new HashMap<>();
-        colorCounts.put("Red", 0);
-        colorCounts.put("Green", 0);
-        colorCounts.put("Blue", 0);
-        colorCounts.put("Yellow", 0);
+        CardColor chosenColor = currentPlayer.selectColor();
         
-        // Count cards of each color
-        for (Card card : hand) {
-            String cardColor = card.getColor();
-            if (cardColor != null && !cardColor.isEmpty() && !cardColor.equals("")) {
-                colorCounts.put(cardColor, colorCounts.getOrDefault(cardColor, 0) + 1);
-            }
-        }
-        
-        // Find the color with the maximum count
-        String maxColor = "Red"; // Default
-        int maxCount = -1;
-        boolean isTied = false;
+        // Declare the color for the rest of the game
+        mediator.declareColor(chosenColor);
         
-        for (Map.Entry<String, Integer> entry : colorCounts.entrySet()) {
-            if (entry.getValue() > maxCount) {
-                maxColor = entry.getKey();
-                maxCount = entry.getValue();
-                isTied = false;
-            } else if (entry.getValue() == maxCount && maxCount > 0) {
-                isTied = true;
-            }
+        GameUI ui = mediator.getUI();
+        if (ui != null) {
+            ui.displayColorChanged(currentPlayer.getName(), chosenColor.getDisplayName());
         }
-        
-        // If tied or no colored cards, choose randomly
-        if (isTied || maxCount == 0) {
-            String[] colors = {"Red", "Green", "Blue", "Yellow"};
-            // Use ThreadLocalRandom instead of new Random() for better performance
-            ThreadLocalRandom random = ThreadLocalRandom.current();
-            maxColor = colors[random.nextInt(colors.length)];
-        }
-        
-        return maxColor;
     }
-} 
\ No newline at end of file
+}
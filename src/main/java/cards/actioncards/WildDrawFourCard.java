@@ -1,22 +1,25 @@
 package main.java.cards.actioncards;
 
+import main.java.cards.CardColor;
+import main.java.cards.CardKind;
+import main.java.game.GameMediator;
 import main.java.players.Player;
-import main.java.utils.ConsoleColors;
+import main.java.ui.GameUI;
 
 /**
  * WildDrawFourCard represents a Wild Draw Four card in UNO.
  * It allows the player to change the current color and forces the next player to draw 4 cards.
- * It extends WildCard to leverage the color selection logic.
+ * It extends WildCard, and the player's strategy declares the color in the same way.
  */
 public class WildDrawFourCard extends WildCard {
 
     /**
-     * Constructs a new Wild Draw Four card with no initial color and a value of 50 points.
-     * Overrides the type from the parent WildCard class.
+     * Constructs a new Wild Draw Four card with no color and a value of 50 points.
+     * 
+     * @param id The registry id of the card
      */
-    public WildDrawFourCard() {
-        super();
-        this.type = "Wild Draw Four"; // Override type from parent class
+    public WildDrawFourCard(int id) {
+        super(id, CardKind.WILD_DRAW_FOUR);
     }
 
     /**
@@ -25,28 +28,32 @@ public class WildDrawFourCard extends WildCard {
      * First validates that the play is legal according to official UNO rules.
      */
     @Override
-    public void applyEffect() {
+    public void applyEffect(GameMediator mediator) {
         if (mediator == null) {
             throw new IllegalStateException("Card not connected to a game mediator");
         }
         
         Player currentPlayer = mediator.getCurrentPlayer();
+        GameUI ui = mediator.getUI();
         
         // Validate play (current player has no cards matching the color on top)
         if (!mediator.validateWildDrawFour(currentPlayer)) {
-            System.out.println(ConsoleColors.RED_BOLD + "⚠️ Invalid Wild Draw Four play! Player has matching color card. ⚠️" + ConsoleColors.RESET);
+            if (ui != null) {
+                ui.displayInvalidWildDrawFour();
+            }
             return;
         }
         
-        // Select color using the parent class method (most frequent in hand)
-        String chosenColor = selectColorBasedOnPlayerHand(currentPlayer);
+        // Select color using the player's strategy
+        CardColor chosenColor = currentPlayer.selectColor();
         
-        // Set the color of the card
-        this.color = chosenColor;
+        // Declare the color for the rest of the game
+        mediator.declareColor(chosenColor);
         
         // Display color change
-        System.out.println(ConsoleColors.highlight("🌈➕ " + currentPlayer.getName() + " changes color to " + 
-            ConsoleColors.formatColor(chosenColor) + " and next player draws 4 cards! 🌈➕"));
+        if (ui != null) {
+            ui.displayColorChangedWithDrawFour(currentPlayer.getName(), chosenColor.getDisplayName());
+        }
                 
         // Next player effects handled by GameMediator
     }
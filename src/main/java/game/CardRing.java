@@ -0,0 +1,132 @@
+package main.java.game;
+
+import java.util.SplittableRandom;
+
+import main.java.cards.Card;
+import main.java.cards.CardRegistry;
+
+/**
+ * CardRing is a fixed-capacity ring buffer of registry card ids used by the piles.
+ * Cards are taken from the front and put back at the back, both in constant time,
+ * and a shuffle permutes the occupied slots in place without rebuilding the buffer.
+ * The capacity is the size of the deck, since every registry card exists once per game.
+ */
+final class CardRing {
+    private int[] ids;
+    private int head;
+    private int size;
+
+    /**
+     * Constructs an empty ring that can hold every card of the deck.
+     */
+    CardRing() {
+        this.ids = new int[CardRegistry.DECK_SIZE];
+    }
+
+    /**
+     * Takes the card id at the front of the ring.
+     *
+     * @return The id, or Card.NO_ID if the ring is empty
+     */
+    int pollFirst() {
+        if (size == 0) {
+            return Card.NO_ID;
+        }
+        int id = ids[head];
+        head = head + 1 == ids.length ? 0 : head + 1;
+        size--;
+        return id;
+    }
+
+    /**
+     * Puts a card id at the back of the ring.
+     *
+     * @param id The registry id of the card
+     * @throws IllegalArgumentException if the id is not a registry id
+     * @throws IllegalStateException if the ring is full
+     */
+    void addLast(int id) {
+        if (id < 0 || id >= CardRegistry.DECK_SIZE) {
+            throw new IllegalArgumentException("Only registry cards can be put in a pile");
+        }
+        if (size == ids.length) {
+            throw new IllegalStateException("Pile already holds every card of the deck");
+        }
+        ids[slot(size)] = id;
+        size++;
+    }
+
+    /**
+     * Replaces the backing array with the given one, whose first slots hold the new contents.
+     * The ring takes ownership of the array and gives up its previous one, so the caller can
+     * reuse that array instead of allocating.
+     *
+     * @param ids An array sized to the deck, holding the new ids from the front
+     * @param count The number of ids in use
+     * @return The previous backing array
+     * @throws IllegalArgumentException if the array is not sized to the deck or the count does not fit
+     */
+    int[] swapStorage(int[] ids, int count) {
+        if (ids.length != CardRegistry.DECK_SIZE || count < 0 || count > ids.length) {
+            throw new IllegalArgumentException("Storage must be sized to the deck");
+        }
+        int[] previous = this.ids;
+        this.ids = ids;
+        this.head = 0;
+        this.size = count;
+        return previous;
+    }
+
+    /**
+     * Gets the card id at a position counted from the front.
+     *
+     * @param index The position, 0 being the front
+     * @return The id at that position
+     */
+    int get(int index) {
+        return ids[slot(index)];
+    }
+
+    /**
+     * Shuffles the ids in place with a Fisher-Yates pass over the occupied slots.
+     *
+     * @param random The random stream of the game
+     */
+    void shuffle(SplittableRandom random) {
+        for (int i = size - 1; i > 0; i--) {
+            int a = slot(i);
+            int b = slot(random.nextInt(i + 1));
+            int temp = ids[a];
+            ids[a] = ids[b];
+            ids[b] = temp;
+        }
+    }
+
+    /**
+     * Removes all ids from the ring.
+     */
+    void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * Gets the number of ids in the ring.
+     *
+     * @return The size
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Maps a position counted from the front to its slot in the backing array.
+     *
+     * @param index The position
+     * @return The array slot
+     */
+    private int slot(int index) {
+        int slot = head + index;
+        return slot >= ids.length ? slot - ids.length : slot;
+    }
+}
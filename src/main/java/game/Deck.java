@@ -1,27 +1,29 @@
 package main.java.game;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import java.util.SplittableRandom;
 
 import main.java.cards.Card;
-import main.java.cards.NumberCard;
-import main.java.cards.actioncards.*;
+import main.java.cards.CardRegistry;
 
 /**
  * Deck represents the complete set of cards used in the UNO game.
  * It is responsible for creating the initial set of cards and shuffling them.
  * Implements IGameComponent interface to participate in the Mediator pattern.
+ * 
+ * <p>The cards are kept as registry ids in a ring buffer, so dealing a card is a constant-time
+ * index update rather than a removal from the front of a list.</p>
  */
 public class Deck implements IGameComponent {
-    private List<Card> cards;
+    private final CardRing cards;
     private IGameMediator mediator;
     
     /**
      * Constructs a new, empty deck.
      */
     public Deck() {
-        this.cards = new ArrayList<>();
+        this.cards = new CardRing();
     }
     
     /**
@@ -50,50 +52,28 @@ public class Deck implements IGameComponent {
      * - 24 action cards (Skip, Reverse, Draw Two in each color)
      * - 8 Wild cards (4 regular Wild, 4 Wild Draw Four)
      * And shuffles the deck.
+     * The cards are the shared instances from the CardRegistry, so no cards are created.
+     * 
+     * @param random The random stream of the game
      */
-    public void initializeDeck() {
+    public void initializeDeck(SplittableRandom random) {
         cards.clear();
         
-        // Create number cards (0-9)
-        // One 0 and two 1-9 of each color
-        String[] colors = {"Red", "Green", "Blue", "Yellow"};
-        
-        for (String color : colors) {
-            // Add one 0 card for each color
-            cards.add(new NumberCard(color, 0));
-            
-            // Add two of each 1-9 cards
-            for (int value = 1; value <= 9; value++) {
-                cards.add(new NumberCard(color, value));
-                cards.add(new NumberCard(color, value));
-            }
-            
-            // Add action cards (2 of each per color)
-            cards.add(new SkipCard(color));
-            cards.add(new SkipCard(color));
-            
-            cards.add(new ReverseCard(color));
-            cards.add(new ReverseCard(color));
-            
-            cards.add(new DrawTwoCard(color));
-            cards.add(new DrawTwoCard(color));
-        }
-        
-        // Add Wild cards (4 of each)
-        for (int i = 0; i < 4; i++) {
-            cards.add(new WildCard());
-            cards.add(new WildDrawFourCard());
+        for (int id = 0; id < CardRegistry.DECK_SIZE; id++) {
+            cards.addLast(id);
         }
         
         // Shuffle the deck
-        shuffle();
+        shuffle(random);
     }
     
     /**
-     * Shuffles the cards in the deck.
+     * Shuffles the cards in the deck in place.
+     * 
+     * @param random The random stream of the game
      */
-    public void shuffle() {
-        Collections.shuffle(cards);
+    public void shuffle(SplittableRandom random) {
+        cards.shuffle(random);
     }
     
     /**
@@ -108,33 +88,51 @@ public class Deck implements IGameComponent {
             throw new IllegalStateException("Not enough cards in the deck");
         }
         
-        List<Card> dealtCards = new ArrayList<>();
+        List<Card> dealtCards = new ArrayList<>(numCards);
         for (int i = 0; i < numCards; i++) {
-            dealtCards.add(cards.remove(0));
+            dealtCards.add(CardRegistry.get(cards.pollFirst()));
         }
         
         return dealtCards;
     }
     
     /**
-     * Returns a card to the deck.
+     * Deals the top card of the deck by id.
+     * 
+     * @return The id of the dealt card
+     * @throws IllegalStateException if the deck is empty
+     */
+    public int dealCardId() {
+        if (cards.size() == 0) {
+            throw new IllegalStateException("Not enough cards in the deck");
+        }
+        return cards.pollFirst();
+    }
+    
+    /**
+     * Returns a card to the bottom of the deck.
      * 
      * @param card The card to return
+     * @throws IllegalArgumentException if the card is null or not a registry card
      */
     public void returnCard(Card card) {
         if (card == null) {
             throw new IllegalArgumentException("Cannot return null card to deck");
         }
-        cards.add(card);
+        cards.addLast(card.getId());
     }
     
     /**
      * Gets a copy of all cards in the deck.
      * 
-     * @return A copy of the cards list
+     * @return A copy of the cards, top card first
      */
     public List<Card> getCards() {
-        return new ArrayList<>(cards);
+        List<Card> copy = new ArrayList<>(cards.size());
+        for (int i = 0; i < cards.size(); i++) {
+            copy.add(CardRegistry.get(cards.get(i)));
+        }
+        return copy;
     }
     
     /**
@@ -143,7 +141,7 @@ public class Deck implements IGameComponent {
      * @return True if the deck is empty, false otherwise
      */
     public boolean isEmpty() {
-        return cards.isEmpty();
+        return cards.size() == 0;
     }
     
     /**
@@ -163,7 +161,7 @@ public class Deck implements IGameComponent {
     public void printTopCards(int count) {
         int toPrint = Math.min(count, cards.size());
         for (int i = 0; i < toPrint; i++) {
-            System.out.println(cards.get(i));
+            System.out.println(CardRegistry.get(cards.get(i)));
         }
     }
 } 
\ No newline at end of file
@@ -1,25 +1,29 @@
 package main.java.game;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 import main.java.cards.Card;
+import main.java.cards.CardRegistry;
 
 /**
  * DiscardPile represents the pile where players place their played cards.
  * It encapsulates the management of discarded cards during the game.
  * Implements IGameComponent interface to participate in the Mediator pattern.
+ * 
+ * <p>The pile is an array stack of card ids with the top card at the highest index,
+ * so playing a card and looking at the top card take constant time.</p>
  */
 public class DiscardPile implements IGameComponent {
-    private List<Card> cards;
+    private int[] cards;
+    private int size;
     private IGameMediator mediator;
     
     /**
      * Constructs a new, empty discard pile.
      */
     public DiscardPile() {
-        this.cards = new ArrayList<>();
+        this.cards = new int[CardRegistry.DECK_SIZE];
     }
     
     
@@ -27,13 +31,39 @@ public class DiscardPile implements IGameComponent {
      * Adds a card to the top of the discard pile.
      * 
      * @param card The card to add
-     * @throws IllegalArgumentException if the card is null
+     * @throws IllegalArgumentException if the card is null or not a registry card
      */
     public void addCard(Card card) {
         if (card == null) {
             throw new IllegalArgumentException("Cannot add null card to discard pile");
         }
-        cards.add(0, card); // Add to the top of the pile
+        addCardId(card.getId());
+    }
+    
+    /**
+     * Adds a card to the top of the discard pile by id.
+     * 
+     * @param cardId The id of the card to add
+     * @throws IllegalArgumentException if the id is not a registry id
+     * @throws IllegalStateException if the pile already holds every card
+     */
+    public void addCardId(int cardId) {
+        if (cardId < 0 || cardId >= CardRegistry.DECK_SIZE) {
+            throw new IllegalArgumentException("Only registry cards can be discarded");
+        }
+        if (size == cards.length) {
+            throw new IllegalStateException("Discard pile already holds every card of the deck");
+        }
+        cards[size++] = cardId;
+    }
+    
+    /**
+     * Gets the id of the top card of the discard pile without removing it.
+     * 
+     * @return The id of the top card, or Card.NO_ID if the pile is empty
+     */
+    public int getTopCardId() {
+        return size == 0 ? Card.NO_ID : cards[size - 1];
     }
     
     /**
@@ -42,10 +72,7 @@ public class DiscardPile implements IGameComponent {
      * @return The top card, or null if the pile is empty
      */
     public Card getTopCard() {
-        if (cards.isEmpty()) {
-            return null;
-        }
-        return cards.get(0);
+        return size == 0 ? null : CardRegistry.get(cards[size - 1]);
     }
     
     /**
@@ -54,26 +81,73 @@ public class DiscardPile implements IGameComponent {
      * @return The top card, or null if the pile is empty
      */
     public Card removeTopCard() {
-        if (cards.isEmpty()) {
-            return null;
+        return size == 0 ? null : CardRegistry.get(cards[--size]);
+    }
+    
+    /**
+     * Turns every card except the top card into the new draw pile.
+     * If the draw pile is empty, the two piles simply swap backing arrays: the draw pile takes
+     * this pile's array and this pile keeps the top card in the draw pile's old array.
+     * Otherwise the cards are moved to the bottom of the draw pile.
+     * Either way no array or list is allocated.
+     * 
+     * @param drawPile The draw pile that receives the cards
+     * @return The number of cards recycled
+     */
+    public int recycleInto(DrawPile drawPile) {
+        if (size <= 1) {
+            return 0;
         }
-        return cards.remove(0);
+        if (!drawPile.isEmpty()) {
+            return moveAllButTopTo(drawPile);
+        }
+        
+        int recycled = size - 1;
+        int topCardId = cards[recycled];
+        cards = drawPile.swapStorage(cards, recycled);
+        cards[0] = topCardId;
+        size = 1;
+        return recycled;
+    }
+    
+    /**
+     * Moves every card except the top card to the bottom of the draw pile.
+     * The cards are handed over straight from the backing array, without intermediate lists.
+     * 
+     * @param drawPile The draw pile that receives the cards
+     * @return The number of cards moved
+     */
+    public int moveAllButTopTo(DrawPile drawPile) {
+        if (size <= 1) {
+            return 0;
+        }
+        int moved = size - 1;
+        for (int i = 0; i < moved; i++) {
+            drawPile.addCardId(cards[i]);
+        }
+        cards[0] = cards[moved];
+        size = 1;
+        return moved;
     }
     
     /**
      * Gets a copy of the cards in the discard pile.
      * 
-     * @return A copy of the cards list
+     * @return A copy of the cards, top card first
      */
     public List<Card> getCards() {
-        return new ArrayList<>(cards);
+        List<Card> copy = new ArrayList<>(size);
+        for (int i = size - 1; i >= 0; i--) {
+            copy.add(CardRegistry.get(cards[i]));
+        }
+        return copy;
     }
     
     /**
      * Clears all cards from the discard pile.
      */
     public void clearCards() {
-        cards.clear();
+        size = 0;
     }
     
     /**
@@ -82,7 +156,7 @@ public class DiscardPile implements IGameComponent {
      * @return True if the pile is empty, false otherwise
      */
     public boolean isEmpty() {
-        return cards.isEmpty();
+        return size == 0;
     }
     
     /**
@@ -91,7 +165,7 @@ public class DiscardPile implements IGameComponent {
      * @return The number of cards
      */
     public int size() {
-        return cards.size();
+        return size;
     }
 
     /**
@@ -1,25 +1,29 @@
 package main.java.game;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import java.util.SplittableRandom;
 
 import main.java.cards.Card;
+import main.java.cards.CardRegistry;
 
 /**
  * DrawPile represents the pile of cards that players draw from during the game.
  * It encapsulates the management of cards available for drawing.
  * Implements IGameComponent interface to participate in the Mediator pattern.
+ * 
+ * <p>The pile is a ring buffer of card ids: draws take from the top and put-backs go to
+ * the bottom in constant time, and shuffling permutes the buffer in place.</p>
  */
 public class DrawPile implements IGameComponent {
-    private List<Card> cards;
+    private final CardRing cards;
     private IGameMediator mediator;
     
     /**
      * Constructs a new, empty draw pile.
      */
     public DrawPile() {
-        this.cards = new ArrayList<>();
+        this.cards = new CardRing();
     }
     
     
@@ -29,28 +33,45 @@ public class DrawPile implements IGameComponent {
      * @return The drawn card, or null if the pile is empty
      */
     public Card drawCard() {
-        if (cards.isEmpty()) {
-            return null;
-        }
-        return cards.remove(0);
+        int id = cards.pollFirst();
+        return id == Card.NO_ID ? null : CardRegistry.get(id);
+    }
+    
+    /**
+     * Draws a card from the top of the pile by id.
+     * 
+     * @return The id of the drawn card, or Card.NO_ID if the pile is empty
+     */
+    public int drawCardId() {
+        return cards.pollFirst();
+    }
+    
+    /**
+     * Adds a card to the bottom of the draw pile by id.
+     * 
+     * @param cardId The id of the card to add
+     * @throws IllegalArgumentException if the id is not a registry id
+     */
+    public void addCardId(int cardId) {
+        cards.addLast(cardId);
     }
     
     /**
      * Adds a card to the bottom of the draw pile.
      * 
      * @param card The card to add
-     * @throws IllegalArgumentException if the card is null
+     * @throws IllegalArgumentException if the card is null or not a registry card
      */
     public void addCard(Card card) {
         if (card == null) {
             throw new IllegalArgumentException("Cannot add null card to draw pile");
         }
-        cards.add(card);
+        cards.addLast(card.getId());
     }
     
     /**
      * Sets the cards in the draw pile to the provided list.
-     * Makes a defensive copy to maintain encapsulation.
+     * The first card of the list becomes the top of the pile.
      * 
      * @param cards The list of cards to set
      * @throws IllegalArgumentException if the cards list is null
@@ -59,16 +80,55 @@ public class DrawPile implements IGameComponent {
         if (cards == null) {
             throw new IllegalArgumentException("Cannot set null cards list");
         }
-        this.cards = new ArrayList<>(cards);
+        this.cards.clear();
+        for (Card card : cards) {
+            addCard(card);
+        }
+    }
+    
+    /**
+     * Removes all cards from the draw pile, keeping its backing array.
+     */
+    public void clear() {
+        cards.clear();
+    }
+    
+    /**
+     * Replaces the cards in the draw pile with all cards remaining in the deck.
+     * The deck is left empty and its top card becomes the top of the pile.
+     * 
+     * @param deck The deck to take the cards from
+     */
+    public void fillFrom(Deck deck) {
+        cards.clear();
+        while (!deck.isEmpty()) {
+            cards.addLast(deck.dealCardId());
+        }
+    }
+    
+    /**
+     * Takes over a discard pile's backing array as the contents of this pile.
+     * Used when the pile is recycled from the discard pile, so no cards are copied.
+     * 
+     * @param ids The array to take over, holding the new cards from the top
+     * @param count The number of cards in the array
+     * @return The array previously backing this pile, for the discard pile to reuse
+     */
+    int[] swapStorage(int[] ids, int count) {
+        return cards.swapStorage(ids, count);
     }
     
     /**
      * Gets a copy of the cards in the draw pile.
      * 
-     * @return A copy of the cards list
+     * @return A copy of the cards, top card first
      */
     public List<Card> getCards() {
-        return new ArrayList<>(cards);
+        List<Card> copy = new ArrayList<>(cards.size());
+        for (int i = 0; i < cards.size(); i++) {
+            copy.add(CardRegistry.get(cards.get(i)));
+        }
+        return copy;
     }
     
     /**
@@ -77,14 +137,25 @@ public class DrawPile implements IGameComponent {
      * @return True if the pile is empty, false otherwise
      */
     public boolean isEmpty() {
-        return cards.isEmpty();
+        return cards.size() == 0;
+    }
+    
+    /**
+     * Gets the number of cards in the draw pile.
+     * 
+     * @return The number of cards
+     */
+    public int size() {
+        return cards.size();
     }
     
     /**
-     * Shuffles the cards in the draw pile.
+     * Shuffles the cards in the draw pile in place.
+     * 
+     * @param random The random stream of the game
      */
-    public void shuffle() {
-        Collections.shuffle(cards);
+    public void shuffle(SplittableRandom random) {
+        cards.shuffle(random);
     }
 
     /**
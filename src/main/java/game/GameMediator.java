@@ -1,17 +1,20 @@
 package main.java.game;
 
+import java.io.PrintStream;
 import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.SplittableRandom;
 
 import main.java.cards.Card;
-import main.java.cards.actioncards.WildCard;
+import main.java.cards.CardColor;
+import main.java.cards.CardKind;
+import main.java.cards.CardRegistry;
+import main.java.players.Hand;
 import main.java.players.Player;
 import main.java.ui.GameUI;
-import main.java.utils.ConsoleColors;
 import main.java.utils.ScoreTracker;
 
 /**
@@ -21,38 +24,96 @@ import main.java.utils.ScoreTracker;
  */
 public class GameMediator implements IGameMediator {
     private List<Player> players;
-    private Player currentPlayer;
+    private final List<Player> playersView;
+    private int currentSeat = NO_SEAT;
     private boolean isClockwise;
     private Deck deck;
     private DrawPile drawPile;
     private DiscardPile discardPile;
+    private CardColor activeColor = CardColor.NONE;
+    private CardColor previousColor = CardColor.NONE;
     private ScoreTracker scoreTracker;
     private GameState gameState;
     private int roundNumber = 1;
+    private long turnCount;
+    private int reshuffleCount;
+    private long recycledCardCount;
+    private Player gameWinner;
     private int dealerIndex;
-    private GameUI ui;
+    private final GameMode mode;
+    private final GameUI ui;
+    private SplittableRandom random;
+    private final GameView view;
     private Map<GameComponentType, List<IGameComponent>> componentRegistry;
+    private final List<Card> redistributionBuffer = new ArrayList<>(CardRegistry.DECK_SIZE);
+    
+    /**
+     * Creates a new GameMediator instance that renders the game to the console.
+     */
+    public GameMediator() {
+        this(GameMode.VERBOSE);
+    }
     
     /**
      * Creates a new GameMediator instance with initialized components.
      * Initializes and registers all game components.
+     * In headless mode no UI is created and the game produces no output.
+     * 
+     * @param mode The output mode of the game
      */
-    public GameMediator() {
+    public GameMediator(GameMode mode) {
+        this(mode, new ScoreTracker());
+    }
+    
+    /**
+     * Creates a new GameMediator instance that reports scores to the given tracker.
+     * The game draws its randomness from a freshly seeded stream.
+     * 
+     * @param mode The output mode of the game
+     * @param scoreTracker The tracker that keeps and persists the scores
+     */
+    public GameMediator(GameMode mode, ScoreTracker scoreTracker) {
+        this(mode, scoreTracker, new SplittableRandom());
+    }
+    
+    /**
+     * Creates a new GameMediator instance whose randomness comes entirely from the given stream.
+     * Every shuffle, color choice and card choice of the game draws from it, so a game created
+     * with {@code new SplittableRandom(seed)} plays out the same way every time.
+     * 
+     * @param mode The output mode of the game
+     * @param scoreTracker The tracker that keeps and persists the scores
+     * @param random The random stream owned by this game
+     */
+    public GameMediator(GameMode mode, ScoreTracker scoreTracker, SplittableRandom random) {
+        this(mode, scoreTracker, random, System.out);
+    }
+    
+    /**
+     * Creates a new GameMediator instance that renders its game to the given stream.
+     * The UI, and through it every card effect, writes only to this stream, so games running
+     * side by side can each have their own output.
+     * 
+     * @param mode The output mode of the game
+     * @param scoreTracker The tracker that keeps and persists the scores
+     * @param random The random stream owned by this game
+     * @param out The stream a verbose game writes its output to; not used by headless games
+     */
+    public GameMediator(GameMode mode, ScoreTracker scoreTracker, SplittableRandom random, PrintStream out) {
+        this.mode = mode;
+        this.random = random;
         this.players = new ArrayList<>();
+        this.playersView = Collections.unmodifiableList(players);
         this.isClockwise = true;
         this.deck = new Deck();
         this.drawPile = new DrawPile();
         this.discardPile = new DiscardPile();
-        this.scoreTracker = new ScoreTracker();
+        this.scoreTracker = scoreTracker;
         this.gameState = GameState.INITIALIZED;
         this.dealerIndex = 0;
-        this.ui = new GameUI();
-        this.componentRegistry = new HashMap<>();
-        
-        // Initialize component lists
-        for (GameComponentType type : GameComponentType.values()) {
-            componentRegistry.put(type, new ArrayList<>());
-        }
+        this.ui = mode == GameMode.VERBOSE ? new GameUI(out) : null;
+        this.componentRegistry = new EnumMap<>(GameComponentType.class);
+        this.view = new ReadOnlyGameView(this);
         
         // Register all components with the mediator
         registerComponent(this.deck);
@@ -69,19 +130,104 @@ public class GameMediator implements IGameMediator {
     @Override
     public void registerComponent(IGameComponent component) {
         GameComponentType type = component.getComponentType();
-        componentRegistry.get(type).add(component);
+        componentRegistry.computeIfAbsent(type, t -> new ArrayList<>(1)).add(component);
         component.setMediator(this);
     }
     
     /**
-     * Starts a new game.
-     * Initializes the deck, deals cards to players, and sets up the discard pile.
+     * Starts a new game by dealing its first round.
+     * 
+     * @throws IllegalStateException if the game has already started
      */
     @Override
     public void startGame() {
+        if (this.gameState != GameState.INITIALIZED) {
+            throw new IllegalStateException("Game has already started");
+        }
+        startRound();
+    }
+    
+    /**
+     * Returns the game to INITIALIZED so that it can be played again from the start.
+     * The players keep their seats and the deck, piles, hands, score table and UI are reused
+     * with their backing storage, so a worker can play game after game on one mediator
+     * without producing garbage. A reset game plays exactly like a newly created one
+     * with the same players and random stream.
+     * 
+     * @param random The random stream of the next game
+     */
+    @Override
+    public void reset(SplittableRandom random) {
+        this.random = random;
+        this.gameState = GameState.INITIALIZED;
+        this.currentSeat = NO_SEAT;
+        this.isClockwise = true;
+        this.activeColor = CardColor.NONE;
+        this.previousColor = CardColor.NONE;
+        this.roundNumber = 1;
+        this.turnCount = 0;
+        this.reshuffleCount = 0;
+        this.recycledCardCount = 0;
+        this.gameWinner = null;
+        this.dealerIndex = 0;
+        
+        drawPile.clear();
+        discardPile.clearCards();
+        scoreTracker.reset();
+        for (Player player : players) {
+            player.clearHand();
+            player.setAsDealer(false);
+        }
+    }
+    
+    /**
+     * Deals the next round after the previous one has ended.
+     * 
+     * @throws IllegalStateException if the current round is not over
+     */
+    @Override
+    public void startNextRound() {
+        if (this.gameState != GameState.ROUND_OVER) {
+            throw new IllegalStateException("Cannot start the next round before the current round is over");
+        }
+        startRound();
+    }
+    
+    /**
+     * Advances the game by one step of its state machine.
+     * Starts the game when it is initialized, plays the current player's turn while a round
+     * is in progress, and deals the next round once a round is over. Drivers call this in a
+     * loop until the game is over, so the call stack stays flat however many rounds are played.
+     * 
+     * @throws IllegalStateException if the game is already over
+     */
+    @Override
+    public void advance() {
+        switch (gameState) {
+            case INITIALIZED:
+                startGame();
+                break;
+            case IN_PROGRESS:
+                handleTurn(getCurrentPlayer());
+                break;
+            case ROUND_OVER:
+                startNextRound();
+                break;
+            default:
+                throw new IllegalStateException("Cannot advance a game that is over");
+        }
+    }
+    
+    /**
+     * Starts a round.
+     * Initializes the deck, deals cards to players, and sets up the discard pile.
+     */
+    private void startRound() {
         this.gameState = GameState.IN_PROGRESS;
         
-        ui.displayRoundHeader(roundNumber);
+        if (ui != null) {
+            ui.displayRoundHeader(roundNumber);
+        }
         displayPlayerInfo();
         initializeGameComponents();
         determineStartingPlayer();
@@ -92,7 +238,9 @@ public class GameMediator implements IGameMediator {
      * Displays information about the number of players in the game.
      */
     private void displayPlayerInfo() {
-        System.out.println(ConsoleColors.WHITE_BRIGHT + "Game starting with " + players.size() + " players." + ConsoleColors.RESET);
+        if (ui != null) {
+            ui.displayPlayerCount(players.size());
+        }
         
         // Start tracking the new round
         scoreTracker.startNewRound();
@@ -103,7 +251,7 @@ public class GameMediator implements IGameMediator {
      */
     private void initializeGameComponents() {
         // Initialize deck
-        deck.initializeDeck();
+        deck.initializeDeck(random);
     }
 
     /**
@@ -120,12 +268,14 @@ public class GameMediator implements IGameMediator {
         Card startingCard = setupPiles();
         
         // Apply starting card effect if it's an action card
-        if (!startingCard.getType().matches("\\d+")) {
+        if (!startingCard.getKind().isNumber()) {
             applyCardEffect(startingCard);
         }
         
         // Print game setup
-        ui.displayGameSetupComplete(currentPlayer.getName());
+        if (ui != null) {
+            ui.displayGameSetupComplete(getCurrentPlayer().getName());
+        }
     }
     
     /**
@@ -135,62 +285,72 @@ public class GameMediator implements IGameMediator {
      */
     private void determineStartingPlayer() {
         // First make sure we have a deck ready and properly shuffled
-        deck.initializeDeck(); // This now includes shuffling
+        deck.initializeDeck(random); // This now includes shuffling
         
-        ui.displayDeterminingDealerHeader();
-        
-        // Create a map to store player -> card drawn
-        Map<Player, Card> drawnCards = new HashMap<>();
+        if (ui != null) {
+            ui.displayDeterminingDealerHeader();
+        }
         
-        // Each player draws a card
-        drawCardsForDealerSelection(drawnCards);
+        // Each player draws a card; the seat with the highest card value starts
+        int startingSeat = drawCardsForDealerSelection();
         
-        // Find the player with the highest card value
-        selectStartingPlayer(drawnCards);
+        selectStartingPlayer(startingSeat);
     }
 
     /**
      * Has each player draw a card for dealer selection.
      * 
-     * @param drawnCards Map to store the cards drawn by each player
+     * @return The seat that drew the highest card value, ties broken uniformly at random
      */
-    private void drawCardsForDealerSelection(Map<Player, Card> drawnCards) {
-        for (Player player : players) {
-            Card drawnCard = deck.dealCards(1).get(0);
-            drawnCards.put(player, drawnCard);
-            ui.displayPlayerDrawingCard(player.getName(), drawnCard.toString());
+    private int drawCardsForDealerSelection() {
+        int bestSeat = 0;
+        int bestValue = Integer.MIN_VALUE;
+        int tiedSeats = 0;
+        for (int seat = 0; seat < players.size(); seat++) {
+            Card drawnCard = CardRegistry.get(deck.dealCardId());
+            if (drawnCard.getValue() > bestValue) {
+                bestSeat = seat;
+                bestValue = drawnCard.getValue();
+                tiedSeats = 1;
+            } else if (drawnCard.getValue() == bestValue
+                    && random.nextInt(++tiedSeats) == 0) {
+                bestSeat = seat;
+            }
+            if (ui != null) {
+                ui.displayPlayerDrawingCard(players.get(seat).getName(), drawnCard.toString());
+            }
         }
+        return bestSeat;
     }
 
     /**
-     * Selects the starting player based on the highest card drawn.
+     * Makes the player in the given seat the dealer and starting player.
      * 
-     * @param drawnCards Map of players to cards drawn
+     * @param startingSeat The seat that drew the highest card
      */
-    private void selectStartingPlayer(Map<Player, Card> drawnCards) {
-        Player startingPlayer = drawnCards.entrySet().stream()
-                .max(Comparator.comparingInt(entry -> entry.getValue().getValue()))
-                .map(Map.Entry::getKey)
-                .orElse(players.get(0)); // Fallback to first player if there's a problem
-        
+    private void selectStartingPlayer(int startingSeat) {
         // Set the starting player and dealer
-        currentPlayer = startingPlayer;
-        dealerIndex = players.indexOf(startingPlayer);
+        currentSeat = startingSeat;
+        dealerIndex = startingSeat;
         
         // Set dealer status for the starting player
-        for (Player player : players) {
-            player.setAsDealer(player == startingPlayer);
+        for (int seat = 0; seat < players.size(); seat++) {
+            players.get(seat).setAsDealer(seat == startingSeat);
         }
         
-        ui.displayDealerSelectedMessage(startingPlayer.getName());
+        if (ui != null) {
+            ui.displayDealerSelectedMessage(players.get(startingSeat).getName());
+        }
     }
     
     /**
      * Shuffles the deck.
      */
     private void shuffleDeck() {
-        deck.shuffle();
-        ui.displayDeckShuffled();
+        deck.shuffle(random);
+        if (ui != null) {
+            ui.displayDeckShuffled();
+        }
     }
     
     /**
@@ -203,7 +363,9 @@ public class GameMediator implements IGameMediator {
             throw new IllegalArgumentException("Cannot deal cards to empty player list");
         }
         
-        ui.displayDealingCardsHeader(currentPlayer.getName());
+        if (ui != null) {
+            ui.displayDealingCardsHeader(getCurrentPlayer().getName());
+        }
         
         // Clear any existing cards from players' hands
         for (Player player : players) {
@@ -215,7 +377,9 @@ public class GameMediator implements IGameMediator {
         
         // Deal 7 cards to each player, one at a time in a left direction
         for (int cardNum = 0; cardNum < 7; cardNum++) {
-            ui.displayDealRoundHeader(cardNum + 1);
+            if (ui != null) {
+                ui.displayDealRoundHeader(cardNum + 1);
+            }
             
             for (int i = 0; i < players.size(); i++) {
                 // Calculate the player index, starting from the player after the dealer
@@ -223,18 +387,18 @@ public class GameMediator implements IGameMediator {
                 Player player = players.get(playerIndex);
                 
                 // Deal one card to this player
-                List<Card> dealtCard = deck.dealCards(1);
-                if (!dealtCard.isEmpty()) {
-                    Card card = dealtCard.get(0);
-                    player.addCardToHand(card);
-                    
-                    // Display the current hand for this player
-                    ui.displayPlayerHand(player.getName(), player.getHand());
+                player.addCardToHand(CardRegistry.get(deck.dealCardId()));
+                
+                // Display the current hand for this player
+                if (ui != null) {
+                    ui.displayPlayerHand(player.getName(), player.getHandView());
                 }
             }
         }
         
-        ui.displayAllPlayersDealt();
+        if (ui != null) {
+            ui.displayAllPlayersDealt();
+        }
     }
     
     /**
@@ -246,23 +410,28 @@ public class GameMediator implements IGameMediator {
      */
     private Card setupPiles() {
         // Initialize draw pile with remaining cards
-        drawPile.setCards(deck.getCards());
+        drawPile.fillFrom(deck);
         
         // Draw the first card for the discard pile
         Card startingCard = drawPile.drawCard();
         
         // If first card is a Wild Draw Four, put it back and draw another
-        while (startingCard.getType().equals("Wild Draw Four")) {
-            System.out.println(ConsoleColors.WHITE + "First card was a Wild Draw Four. Returning to deck and drawing another." + ConsoleColors.RESET);
+        while (startingCard.getKind() == CardKind.WILD_DRAW_FOUR) {
+            if (ui != null) {
+                ui.displayWildDrawFourReturned();
+            }
             drawPile.addCard(startingCard);
-            drawPile.shuffle();
+            drawPile.shuffle(random);
             startingCard = drawPile.drawCard();
         }
         
-        // Place the starting card on the discard pile
-        discardPile.addCard(startingCard);
+        // Place the starting card on an empty discard pile, dropping the previous round's cards
+        discardPile.clearCards();
+        discard(startingCard);
         
-        ui.displayStartingCard(startingCard.toString());
+        if (ui != null) {
+            ui.displayStartingCard(startingCard.toString());
+        }
         
         return startingCard;
     }
@@ -271,7 +440,7 @@ public class GameMediator implements IGameMediator {
      * Prints a player's hand in a nicely formatted way
      */
     private void printPlayerHand(Player player) {
-        ui.displayDetailedPlayerHand(player.getName(), player.getHand());
+        ui.displayDetailedPlayerHand(player.getName(), player.getHandView());
     }
     
     /**
@@ -286,22 +455,29 @@ public class GameMediator implements IGameMediator {
             throw new IllegalStateException("Cannot handle turn when game is not in progress");
         }
         
-        ui.displayPlayerTurnHeader(player.getName());
+        turnCount++;
         
         // 1. Check if player has playable cards
         Card topCard = discardPile.getTopCard();
-        ui.displayTopCard(topCard.toString());
         
-        // Print current player's hand
-        printPlayerHand(player);
+        if (ui != null) {
+            ui.displayPlayerTurnHeader(player.getName());
+            ui.displayTopCard(describeTopCard(topCard));
+            
+            // Print current player's hand
+            printPlayerHand(player);
+        }
         
-        Card selectedCard = player.selectPlayableCard(topCard);
+        int selectedSlot = player.selectPlayableSlot();
         
-        if (selectedCard != null) {
+        if (selectedSlot != Hand.NO_SLOT) {
             // Player plays a card
-            ui.displayPlayerPlayingCard(player.getName(), selectedCard.toString());
-            player.playCard(selectedCard);
-            discardPile.addCard(selectedCard);
+            Card selectedCard = player.getCardAt(selectedSlot);
+            if (ui != null) {
+                ui.displayPlayerPlayingCard(player.getName(), selectedCard.toString());
+            }
+            player.playCardAt(selectedSlot);
+            discard(selectedCard);
             
             // Track that a card was played
             scoreTracker.recordCardPlayed();
@@ -309,36 +485,71 @@ public class GameMediator implements IGameMediator {
             applyCardEffect(selectedCard);
         } else {
             // Player must draw a card
-            ui.displayPlayerDrawingCardOnTurn(player.getName());
-            Card drawnCard = drawPile.drawCard();
-            player.addCardToHand(drawnCard);
+            if (ui != null) {
+                ui.displayPlayerDrawingCardOnTurn(player.getName());
+            }
+            Card drawnCard = requestDraw();
             
             // Check if drawn card is playable
-            if (isPlayable(drawnCard, topCard)) {
-                ui.displayPlayerPlayingDrawnCard(player.getName(), drawnCard.toString());
-                player.playCard(drawnCard);
-                discardPile.addCard(drawnCard);
-                
-                // Track that a card was played
-                scoreTracker.recordCardPlayed();
-                
-                applyCardEffect(drawnCard);
+            if (drawnCard == null) {
+                // Nothing left to draw, the turn simply passes
             } else {
-                ui.displayDrawnCardCannotBePlayed();
+                // The drawn card is played only if the move generator would offer it,
+                // so a drawn Wild Draw Four obeys the same rule as one chosen from the hand
+                player.addCardToHand(drawnCard);
+                if (MoveGenerator.isLegalPlay(view, player.getHandState(), drawnCard.getId())) {
+                    if (ui != null) {
+                        ui.displayPlayerPlayingDrawnCard(player.getName(), drawnCard.toString());
+                    }
+                    player.playCard(drawnCard);
+                    discard(drawnCard);
+                    
+                    // Track that a card was played
+                    scoreTracker.recordCardPlayed();
+                    
+                    applyCardEffect(drawnCard);
+                } else if (ui != null) {
+                    ui.displayDrawnCardCannotBePlayed();
+                }
             }
         }
         
         // Check if player has won
-        if (player.getHand().isEmpty()) {
-            ui.displayPlayerWinsRound(player.getName());
+        if (player.hasEmptyHand()) {
+            if (ui != null) {
+                ui.displayPlayerWinsRound(player.getName());
+            }
             endRound(player);
             return;
-        } else {
-            ui.displayPlayerCardCount(player.getName(), player.getHand().size());
+        } else if (ui != null) {
+            ui.displayPlayerCardCount(player.getName(), player.getHandSize());
         }
         
         // Move to next player
-        currentPlayer = getNextPlayer();
+        currentSeat = getNextSeat();
+    }
+    
+    /**
+     * Places a card on top of the discard pile and makes its color the active color.
+     * Wild cards have no color of their own; their effect declares the new active color.
+     * The color it replaces is kept so that a Wild Draw Four can be validated against it.
+     * 
+     * @param card The card to discard
+     */
+    private void discard(Card card) {
+        discardPile.addCard(card);
+        previousColor = activeColor;
+        activeColor = card.getCardColor();
+    }
+    
+    /**
+     * Describes the top card using the active color, so a Wild card shows the color declared for it.
+     * 
+     * @param topCard The top card on the discard pile
+     * @return A string in the format "color type"
+     */
+    private String describeTopCard(Card topCard) {
+        return activeColor.getDisplayName() + " " + topCard.getType();
     }
     
     /**
@@ -347,52 +558,46 @@ public class GameMediator implements IGameMediator {
      * @param card The card whose effect to apply
      */
     private void applyCardEffect(Card card) {
-        if (card.getType().matches("\\d+")) {
+        if (card.getKind().isNumber()) {
             // Number card, no effect
             return;
         }
         
-        // Make sure the card has a mediator reference
-        card.setMediator(this);
-        
-        ui.displayApplyingCardEffectHeader();
-        ui.displayApplyingCardEffect(card.toString());
+        if (ui != null) {
+            ui.displayApplyingCardEffectHeader();
+            ui.displayApplyingCardEffect(card.toString());
+        }
         
-        card.applyEffect();
+        card.applyEffect(this);
     }
     
     /**
      * Replenishes the draw pile from the discard pile when it runs out of cards.
      * Keeps the top card of the discard pile and shuffles the rest.
+     * The discard pile's storage is handed to the draw pile and shuffled in place.
      */
     private void replenishDrawPile() {
         if (gameState == GameState.IN_PROGRESS && discardPile.size() > 1) {
-            ui.displayReplenishingDrawPile();
-            
-            // Keep the top card
-            Card topCard = discardPile.getTopCard();
-            
-            // Get all other cards
-            List<Card> cards = discardPile.getCards();
-            
-            // Clear the discard pile
-            discardPile.clearCards();
-            
-            // Add back the top card
-            discardPile.addCard(topCard);
+            if (ui != null) {
+                ui.displayReplenishingDrawPile();
+            }
             
-            // Add the rest to the draw pile
-            drawPile.setCards(cards);
+            // Keep the top card and turn the rest into the draw pile
+            recycledCardCount += discardPile.recycleInto(drawPile);
+            reshuffleCount++;
             
             // Shuffle the draw pile
-            drawPile.shuffle();
+            drawPile.shuffle(random);
             
-            ui.displayDiscardPileReshuffled();
+            if (ui != null) {
+                ui.displayDiscardPileReshuffled();
+            }
         }
     }
     
     /**
      * Ends the current round and processes results.
+     * Leaves the game in ROUND_OVER, ready for startNextRound, or in GAME_OVER.
      * 
      * @param winner The player who won the round
      */
@@ -407,31 +612,38 @@ public class GameMediator implements IGameMediator {
         if (isGameWon()) {
             this.gameState = GameState.GAME_OVER;
             
-            // Find the winner
-            Player gameWinner = players.stream()
-                    .max(Comparator.comparing(player -> scoreTracker.getScore(player)))
-                    .orElse(winner);
+            // Find the winner; the first player with the highest score wins a tie
+            gameWinner = winner;
+            int bestScore = Integer.MIN_VALUE;
+            for (Player player : players) {
+                int score = scoreTracker.getScore(player);
+                if (score > bestScore) {
+                    bestScore = score;
+                    gameWinner = player;
+                }
+            }
             
             // Log the game winner to CSV
             scoreTracker.logGameWinner(gameWinner, players);
             
-            ui.displayPlayerWinsGame(gameWinner.getName(), scoreTracker.getScore(gameWinner));
+            if (ui != null) {
+                ui.displayPlayerWinsGame(gameWinner.getName(), scoreTracker.getScore(gameWinner));
+            }
         } else {
             // Prepare for next round
             roundNumber++;
-            ui.displayPreparingForNextRound(roundNumber);
+            if (ui != null) {
+                ui.displayPreparingForNextRound(roundNumber);
+            }
             
             // Move dealer to the next player for the new round
             dealerIndex = (dealerIndex + 1) % players.size();
-            currentPlayer = players.get(dealerIndex);
+            currentSeat = dealerIndex;
             
             // Update dealer status for all players
-            for (Player player : players) {
-                player.setAsDealer(player == currentPlayer);
+            for (int seat = 0; seat < players.size(); seat++) {
+                players.get(seat).setAsDealer(seat == dealerIndex);
             }
-            
-            // Start new round
-            startGame();
         }
     }
     
@@ -441,30 +653,30 @@ public class GameMediator implements IGameMediator {
      * @return True if a player has reached the winning score, false otherwise
      */
     private boolean isGameWon() {
-        return players.stream()
-                .anyMatch(player -> scoreTracker.getScore(player) >= 500);
+        for (Player player : players) {
+            if (scoreTracker.getScore(player) >= 500) {
+                return true;
+            }
+        }
+        return false;
     }
     
     /**
      * Shuffles all players' hands together and redistributes them.
-     * Used by the Shuffle Hands card.
+     * Used by the Shuffle Hands card. The cards pass through a buffer owned by the mediator,
+     * so redistributing allocates nothing.
      */
     @Override
     public void redistributeHands() {
         // Gather all cards
-        List<Card> allCards = new ArrayList<>();
+        List<Card> allCards = redistributionBuffer;
         for (Player player : players) {
-            List<Card> hand = new ArrayList<>(player.getHand());
-            for (Card card : hand) {
-                player.playCard(card);
-                allCards.add(card);
-            }
+            player.takeAllCards(allCards);
         }
         
         // Shuffle all cards
-        ThreadLocalRandom.current().nextInt(); // Warm up the RNG
         for (int i = allCards.size() - 1; i > 0; i--) {
-            int index = ThreadLocalRandom.current().nextInt(i + 1);
+            int index = random.nextInt(i + 1);
             // Swap
             Card temp = allCards.get(index);
             allCards.set(index, allCards.get(i));
@@ -490,49 +702,30 @@ public class GameMediator implements IGameMediator {
                 player.addCardToHand(card);
             }
             
-            System.out.println(player.getName() + " now has " + player.getHand().size() + " cards");
+            if (ui != null) {
+                ui.displayRedistributedHand(player.getName(), player.getHandSize());
+            }
         }
-    }
-    
-    /**
-     * Determines if a card is playable on the current top card.
-     * 
-     * @param card The card to check
-     * @param topCard The top card on the discard pile
-     * @return True if the card is playable, false otherwise
-     */
-    private boolean isPlayable(Card card, Card topCard) {
-        return card.getColor().equals(topCard.getColor()) || 
-               card.getType().equals(topCard.getType()) ||
-               card.getType().equals("Wild") ||
-               card.getType().equals("Wild Draw Four");
+        allCards.clear();
     }
     
     /**
      * Validates whether a Wild Draw Four play is legal according to official UNO rules.
-     * Legal if the player has no cards matching the color on top (Wild Draw Four is a last resort).
+     * Legal if the player has no cards matching the color that was active before the card was
+     * discarded (Wild Draw Four is a last resort).
      * 
      * @param player The player who played the Wild Draw Four
      * @return True if the play is valid, false otherwise
      */
     @Override
     public boolean validateWildDrawFour(Player player) {
-        Card topCard = discardPile.getTopCard();
-        String topColor = topCard.getColor();
-        
-        // Cannot validate if the top card is wild (no color)
-        if (topColor.isEmpty()) {
+        // Cannot validate if the card was played on a wild card with no declared color
+        if (previousColor == CardColor.NONE) {
             return true;
         }
         
-        // Check if player has any cards matching the top color
-        for (Card card : player.getHand()) {
-            if (card.getColor().equals(topColor)) {
-                return false; // Found a matching color, Wild Draw Four not allowed
-            }
-        }
-        
-        return true; // No matching colors, Wild Draw Four is allowed
+        // Wild Draw Four is only allowed if the player has no card matching that color
+        return !player.holdsColor(previousColor);
     }
     
     /**
@@ -545,6 +738,7 @@ public class GameMediator implements IGameMediator {
         if (this.gameState != GameState.INITIALIZED) {
             throw new IllegalStateException("Cannot add players after game has started");
         }
+        player.setSeat(players.size());
         players.add(player);
         player.setMediator(this);
     }
@@ -556,16 +750,20 @@ public class GameMediator implements IGameMediator {
      */
     @Override
     public Player getNextPlayer() {
-        int currentIndex = players.indexOf(currentPlayer);
-        int nextIndex;
-        
+        return players.get(getNextSeat());
+    }
+    
+    /**
+     * Gets the seat that plays after the current seat in the current direction.
+     * 
+     * @return The next seat index
+     */
+    @Override
+    public int getNextSeat() {
         if (isClockwise) {
-            nextIndex = (currentIndex + 1) % players.size();
-        } else {
-            nextIndex = (currentIndex - 1 + players.size()) % players.size();
+            return currentSeat + 1 == players.size() ? 0 : currentSeat + 1;
         }
-        
-        return players.get(nextIndex);
+        return currentSeat == 0 ? players.size() - 1 : currentSeat - 1;
     }
     
     /**
@@ -579,7 +777,7 @@ public class GameMediator implements IGameMediator {
     /**
      * Allows a player to draw a card.
      * 
-     * @return The drawn card
+     * @return The drawn card, or null if neither pile has a card left
      */
     @Override
     public Card requestDraw() {
@@ -590,17 +788,93 @@ public class GameMediator implements IGameMediator {
             replenishDrawPile();
             drawnCard = drawPile.drawCard();
             
-            // If still null after replenishing, create a new Wild card as fallback
-            if (drawnCard == null) {
+            // Every card is in play, so there is nothing to draw
+            if (drawnCard == null && ui != null) {
                 ui.displayNoCardsLeftWarning();
-                drawnCard = new WildCard();
-                drawnCard.setMediator(this);
             }
         }
         
         return drawnCard;
     }
     
+    /**
+     * Declares the active color, as done when a Wild card is played.
+     * 
+     * @param color The declared color
+     */
+    @Override
+    public void declareColor(CardColor color) {
+        this.activeColor = color;
+    }
+    
+    /**
+     * Gets the active color that the next card must match.
+     * This is the color of the top card, or the color declared for a Wild card.
+     * 
+     * @return The active color, or NONE if no color has been declared
+     */
+    @Override
+    public CardColor getActiveColor() {
+        return activeColor;
+    }
+    
+    /**
+     * Gets the card on top of the discard pile.
+     * 
+     * @return The top card, or null before the first card is turned over
+     */
+    @Override
+    public Card getTopCard() {
+        return discardPile.getTopCard();
+    }
+    
+    /**
+     * Gets the read-only view of this game that player strategies decide on.
+     * The view cannot be cast back to the mediator; the same instance is returned every time.
+     * 
+     * @return The game view
+     */
+    @Override
+    public GameView getView() {
+        return view;
+    }
+    
+    /**
+     * Writes every legal move of the current player into a buffer, without allocating.
+     * See MoveGenerator for the encoding of the moves.
+     * 
+     * @param moves The buffer that receives the moves, at least MoveGenerator.MAX_MOVES long
+     * @return The number of moves written, the last of which is the draw
+     * @throws IllegalStateException if the game is not in progress
+     */
+    public int generateMoves(int[] moves) {
+        if (gameState != GameState.IN_PROGRESS) {
+            throw new IllegalStateException("Cannot generate moves when game is not in progress");
+        }
+        return MoveGenerator.generate(this, players.get(currentSeat).getHandState(), moves);
+    }
+    
+    /**
+     * Gets the number of cards held by the player in a seat.
+     * 
+     * @param seat The seat index
+     * @return The hand size of that player
+     */
+    @Override
+    public int getHandSize(int seat) {
+        return players.get(seat).getHandSize();
+    }
+    
+    /**
+     * Checks the direction of play.
+     * 
+     * @return True if play moves to higher seats, false if it moves to lower seats
+     */
+    @Override
+    public boolean isClockwise() {
+        return isClockwise;
+    }
+    
     /**
      * Gets all players in the game.
      * 
@@ -611,24 +885,169 @@ public class GameMediator implements IGameMediator {
         return new ArrayList<>(players);
     }
     
+    /**
+     * Gets a read-only view of the players in seat order.
+     * 
+     * @return An unmodifiable live view of the players
+     */
+    @Override
+    public List<Player> getPlayersView() {
+        return playersView;
+    }
+    
+    /**
+     * Gets the player seated at the given seat.
+     * 
+     * @param seat The seat index
+     * @return The player in that seat
+     */
+    @Override
+    public Player getPlayer(int seat) {
+        return players.get(seat);
+    }
+    
+    /**
+     * Gets the number of seated players.
+     * 
+     * @return The player count
+     */
+    @Override
+    public int getPlayerCount() {
+        return players.size();
+    }
+    
     /**
      * Gets the current player.
      * 
-     * @return The current player
+     * @return The current player, or null if no turn order has been set yet
      */
     @Override
     public Player getCurrentPlayer() {
-        return currentPlayer;
+        return currentSeat == NO_SEAT ? null : players.get(currentSeat);
     }
     
     /**
      * Sets the current player.
      * 
      * @param player The new current player
+     * @throws IllegalArgumentException if the player is not seated in this game
      */
     @Override
     public void setCurrentPlayer(Player player) {
-        this.currentPlayer = player;
+        int seat = player.getSeat();
+        if (seat < 0 || seat >= players.size() || players.get(seat) != player) {
+            throw new IllegalArgumentException("Player is not seated in this game");
+        }
+        this.currentSeat = seat;
+    }
+    
+    /**
+     * Gets the seat of the current player.
+     * 
+     * @return The current seat index, or NO_SEAT if no turn order has been set yet
+     */
+    @Override
+    public int getCurrentSeat() {
+        return currentSeat;
+    }
+    
+    /**
+     * Sets the seat whose turn it is.
+     * 
+     * @param seat The seat index
+     * @throws IllegalArgumentException if no player sits in that seat
+     */
+    @Override
+    public void setCurrentSeat(int seat) {
+        if (seat < 0 || seat >= players.size()) {
+            throw new IllegalArgumentException("No player in seat " + seat);
+        }
+        this.currentSeat = seat;
+    }
+    
+    /**
+     * Gets the random stream of this game.
+     * 
+     * @return The game's random stream
+     */
+    @Override
+    public SplittableRandom getRandom() {
+        return random;
+    }
+    
+    /**
+     * Gets the UI attached to this game.
+     * 
+     * @return The game UI, or null if the game runs headless
+     */
+    @Override
+    public GameUI getUI() {
+        return ui;
+    }
+    
+    /**
+     * Gets the current round number.
+     * Once the game is over this is the number of rounds that were played.
+     * 
+     * @return The round number
+     */
+    public int getRoundNumber() {
+        return roundNumber;
+    }
+    
+    /**
+     * Gets the number of turns played so far across all rounds.
+     * 
+     * @return The turn count
+     */
+    public long getTurnCount() {
+        return turnCount;
+    }
+    
+    /**
+     * Gets the number of times the draw pile was replenished from the discard pile.
+     * 
+     * @return The reshuffle count across all rounds
+     */
+    public int getReshuffleCount() {
+        return reshuffleCount;
+    }
+    
+    /**
+     * Gets the number of cards moved from the discard pile back into the draw pile.
+     * 
+     * @return The recycled card count across all rounds
+     */
+    public long getRecycledCardCount() {
+        return recycledCardCount;
+    }
+    
+    /**
+     * Gets the player who won the game.
+     * 
+     * @return The game winner, or null if the game is not over yet
+     */
+    public Player getGameWinner() {
+        return gameWinner;
+    }
+    
+    /**
+     * Gets the output mode this game was constructed with.
+     * 
+     * @return The game mode
+     */
+    public GameMode getMode() {
+        return mode;
+    }
+    
+    /**
+     * Gets the current state of the game.
+     * 
+     * @return The game state
+     */
+    @Override
+    public GameState getGameState() {
+        return gameState;
     }
     
     /**
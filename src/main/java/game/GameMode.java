@@ -0,0 +1,17 @@
+package main.java.game;
+
+/**
+ * Enum representing how a game reports its progress.
+ * The mode is chosen when the mediator is constructed and does not change afterwards.
+ */
+public enum GameMode {
+    /**
+     * Every game event is rendered to the console through the GameUI
+     */
+    VERBOSE,
+    
+    /**
+     * No UI is attached; the engine runs without producing any output
+     */
+    HEADLESS
+}
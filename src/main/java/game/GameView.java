@@ -0,0 +1,69 @@
+package main.java.game;
+
+import java.util.SplittableRandom;
+
+import main.java.cards.Card;
+import main.java.cards.CardColor;
+
+/**
+ * Read-only view of the table that a player strategy decides on.
+ * It exposes only what every player can see: the top card, the active color, the turn order
+ * and the number of cards each seat holds. Strategies receive a read-only wrapper that each
+ * mediator creates once, so nothing is allocated per turn and the view cannot be cast back
+ * to the mediator.
+ */
+public interface GameView {
+
+    /**
+     * Gets the card on top of the discard pile.
+     *
+     * @return The top card, or null before the first card is turned over
+     */
+    Card getTopCard();
+
+    /**
+     * Gets the active color that the next card must match.
+     *
+     * @return The active color, or NONE if no color has been declared
+     */
+    CardColor getActiveColor();
+
+    /**
+     * Gets the number of seated players.
+     *
+     * @return The player count
+     */
+    int getPlayerCount();
+
+    /**
+     * Gets the seat of the current player.
+     * Seats are numbered from 0 in the order players joined the game.
+     *
+     * @return The current seat index, or NO_SEAT if no turn order has been set yet
+     */
+    int getCurrentSeat();
+
+    /**
+     * Gets the number of cards held by the player in a seat.
+     *
+     * @param seat The seat index
+     * @return The hand size of that player
+     */
+    int getHandSize(int seat);
+
+    /**
+     * Checks the direction of play.
+     *
+     * @return True if play moves to higher seats, false if it moves to lower seats
+     */
+    boolean isClockwise();
+
+    /**
+     * Gets the random stream of the game.
+     * All randomness in a game, including player and card decisions, must come from this stream
+     * so that the seed of the stream determines the whole game.
+     *
+     * @return The game's random stream
+     */
+    SplittableRandom getRandom();
+}
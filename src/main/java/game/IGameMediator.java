@@ -1,8 +1,11 @@
 package main.java.game;
 
 import main.java.cards.Card;
+import main.java.cards.CardColor;
 import main.java.players.Player;
+import main.java.ui.GameUI;
 import java.util.List;
+import java.util.SplittableRandom;
 
 /**
  * Interface defining the Mediator pattern contract for UNO game coordination.
@@ -22,11 +25,17 @@ import java.util.List;
  *   <li>Component registration - allowing components to register themselves with the mediator</li>
  * </ul>
  * 
+ * <p>The mediator answers the GameView questions itself, but strategies only ever see the
+ * separate read-only object returned by {@link #getView()}.</p>
+ * 
  * <p>By implementing this interface, a mediator can ensure that all game components
  * communicate through a central point rather than directly with each other, promoting
  * loose coupling and modular design.</p>
  */
-public interface IGameMediator {
+public interface IGameMediator extends GameView {
+    
+    /** Seat index meaning "no seat", used before turn order is set or a player joins */
+    int NO_SEAT = -1;
     
     /**
      * Registers a game component with the mediator.
@@ -43,6 +52,24 @@ public interface IGameMediator {
      */
     void startGame();
     
+    /**
+     * Deals the next round once the current round is over.
+     */
+    void startNextRound();
+    
+    /**
+     * Returns the game to its initial state, keeping its players, so it can be played again.
+     * 
+     * @param random The random stream of the next game
+     */
+    void reset(SplittableRandom random);
+    
+    /**
+     * Advances the game by one step: starts the game, plays a turn, or deals the next round,
+     * depending on the current game state.
+     */
+    void advance();
+    
     /**
      * Handles a player's turn.
      * Coordinates all actions that happen during a player's turn,
@@ -54,8 +81,8 @@ public interface IGameMediator {
     
     /**
      * Ends the current round and processes results.
-     * Calculates scores, updates game state, and prepares for the next round
-     * or ends the game if a player has reached the winning score.
+     * Calculates scores and moves the game to ROUND_OVER, or to GAME_OVER
+     * if a player has reached the winning score.
      * 
      * @param winner The player who won the round
      */
@@ -84,6 +111,14 @@ public interface IGameMediator {
      */
     Player getNextPlayer();
     
+    /**
+     * Gets the seat that plays after the current seat.
+     * Takes into account the current direction of play (clockwise or counter-clockwise).
+     * 
+     * @return The next seat index
+     */
+    int getNextSeat();
+    
     /**
      * Switches the direction of play.
      * Typically triggered by a Reverse card.
@@ -94,10 +129,25 @@ public interface IGameMediator {
      * Allows a player to draw a card.
      * Mediates the interaction between the player and the draw pile.
      * 
-     * @return The drawn card
+     * @return The drawn card, or null if neither pile has a card left
      */
     Card requestDraw();
     
+    /**
+     * Declares the active color.
+     * Called by Wild cards, which have no color of their own.
+     * 
+     * @param color The declared color
+     */
+    void declareColor(CardColor color);
+    
+    /**
+     * Gets the read-only view of the game that player strategies decide on.
+     * 
+     * @return A view that cannot be used to change the game
+     */
+    GameView getView();
+    
     /**
      * Gets all players in the game.
      * 
@@ -105,6 +155,14 @@ public interface IGameMediator {
      */
     List<Player> getPlayers();
     
+    /**
+     * Gets all players in the game without copying.
+     * Use this, or the seat accessors, on paths that run every turn.
+     * 
+     * @return An unmodifiable view of the players in seat order
+     */
+    List<Player> getPlayersView();
+    
     /**
      * Gets the current player.
      * 
@@ -119,6 +177,21 @@ public interface IGameMediator {
      */
     void setCurrentPlayer(Player player);
     
+    /**
+     * Sets the seat whose turn it is.
+     * 
+     * @param seat The seat index
+     */
+    void setCurrentSeat(int seat);
+    
+    /**
+     * Gets the player seated at the given seat.
+     * 
+     * @param seat The seat index
+     * @return The player in that seat
+     */
+    Player getPlayer(int seat);
+    
     /**
      * Redistributes all cards between players.
      * Typically used with a Shuffle Hands card effect.
@@ -128,13 +201,23 @@ public interface IGameMediator {
     /**
      * Validates whether a Wild Draw Four play is legal.
      * According to UNO rules, a Wild Draw Four can only be played if the player
-     * has no matching color cards in their hand.
+     * has no matching color cards in their hand. Called from the card's effect, after the
+     * card has been discarded, so the check uses the color that was active before it.
      * 
      * @param player The player who played the card
      * @return True if the play is valid, false otherwise
      */
     boolean validateWildDrawFour(Player player);
     
+    /**
+     * Gets the UI attached to this game.
+     * Components must check for null before rendering so that a headless
+     * game does no formatting work at all.
+     * 
+     * @return The game UI, or null if the game runs headless
+     */
+    GameUI getUI();
+    
     /**
      * Checks if the game is over.
      * In UNO, the game is typically over when a player reaches 500 points.
@@ -142,4 +225,11 @@ public interface IGameMediator {
      * @return True if the game is over, false otherwise
      */
     boolean isGameOver();
+    
+    /**
+     * Gets the current state of the game.
+     * 
+     * @return The game state
+     */
+    GameState getGameState();
 } 
\ No newline at end of file
@@ -0,0 +1,166 @@
+package main.java.game;
+
+import main.java.cards.CardColor;
+import main.java.cards.CardMasks;
+import main.java.cards.CardRegistry;
+import main.java.cards.PlayabilityTable;
+import main.java.players.HandView;
+
+/**
+ * MoveGenerator lists every legal action of the player to move, for bots and search.
+ * Moves are written as ints into a buffer supplied by the caller, so generating them allocates
+ * nothing. A move packs the registry id of the played card and the color it declares:
+ * {@code cardId << 3 | color.ordinal()}. Colored cards declare NONE, and every Wild card
+ * appears once per declarable color. Drawing instead of playing is always legal and is
+ * written last as {@link #DRAW}.
+ *
+ * <p>Legality follows the engine: a card is legal if the PlayabilityTable allows it on the top
+ * card and active color, and a Wild Draw Four is legal only under the rule of
+ * {@link IGameMediator#validateWildDrawFour}: the active color is NONE, or the hand holds no
+ * card of it. Moves are written in ascending card id, Wild cards in color order.</p>
+ */
+public final class MoveGenerator {
+    /** Move meaning "draw a card instead of playing" */
+    public static final int DRAW = -1;
+
+    /** Number of low bits of a move that hold the declared color */
+    private static final int COLOR_BITS = 3;
+    private static final int COLOR_MASK = (1 << COLOR_BITS) - 1;
+
+    /**
+     * Largest number of moves any position can have: every colored card once, every Wild card
+     * once per declarable color, and the draw. A buffer of this length never overflows.
+     */
+    public static final int MAX_MOVES;
+
+    static {
+        int wilds = Long.bitCount(CardMasks.WILD_LOW) + Long.bitCount(CardMasks.WILD_HIGH);
+        MAX_MOVES = CardRegistry.DECK_SIZE - wilds + wilds * CardColor.DECLARABLE_COUNT + 1;
+    }
+
+    private MoveGenerator() {
+        // Static methods only, not instantiable
+    }
+
+    /**
+     * Writes every legal move of a hand in the given position into a buffer.
+     *
+     * @param game The table, which supplies the top card and active color
+     * @param hand The hand of the player to move
+     * @param moves The buffer that receives the moves, at least MAX_MOVES long
+     * @return The number of moves written, at least 1 for the draw
+     * @throws IllegalArgumentException if the buffer is shorter than MAX_MOVES
+     * @throws IllegalStateException if no card has been turned over yet
+     */
+    public static int generate(GameView game, HandView hand, int[] moves) {
+        if (moves.length < MAX_MOVES) {
+            throw new IllegalArgumentException("Move buffer needs " + MAX_MOVES + " entries, got " + moves.length);
+        }
+        if (game.getTopCard() == null) {
+            throw new IllegalStateException("No top card to play on");
+        }
+
+        CardColor activeColor = game.getActiveColor();
+        int state = PlayabilityTable.state(activeColor, game.getTopCard().getId());
+        long playableLow = hand.getLow() & PlayabilityTable.playableLow(state);
+        long playableHigh = hand.getHigh() & PlayabilityTable.playableHigh(state);
+
+        if (!isWildDrawFourAllowed(activeColor, hand)) {
+            playableLow &= ~CardMasks.WILD_DRAW_FOUR_LOW;
+            playableHigh &= ~CardMasks.WILD_DRAW_FOUR_HIGH;
+        }
+
+        int count = writeMoves(playableLow, 0, CardMasks.WILD_LOW, moves, 0);
+        count = writeMoves(playableHigh, 64, CardMasks.WILD_HIGH, moves, count);
+        moves[count++] = DRAW;
+        return count;
+    }
+
+    /**
+     * Checks whether a card may be played from a hand in the given position, by the same rules
+     * the moves are generated with. Does not check that the hand holds the card.
+     *
+     * @param game The table, which supplies the top card and active color
+     * @param hand The hand of the player to move
+     * @param cardId The registry id of the card
+     * @return True if the card is playable and, for a Wild Draw Four, legal
+     */
+    public static boolean isLegalPlay(GameView game, HandView hand, int cardId) {
+        CardColor activeColor = game.getActiveColor();
+        if (!PlayabilityTable.isPlayable(PlayabilityTable.state(activeColor, game.getTopCard().getId()), cardId)) {
+            return false;
+        }
+        boolean wildDrawFour = cardId < 64
+                ? (CardMasks.WILD_DRAW_FOUR_LOW & (1L << cardId)) != 0
+                : (CardMasks.WILD_DRAW_FOUR_HIGH & (1L << (cardId - 64))) != 0;
+        return !wildDrawFour || isWildDrawFourAllowed(activeColor, hand);
+    }
+
+    /**
+     * Applies the rule of {@link IGameMediator#validateWildDrawFour}: Wild Draw Four is a last
+     * resort, legal only without a card of the active color.
+     *
+     * @param activeColor The active color
+     * @param hand The hand of the player to move
+     * @return True if a Wild Draw Four may be played
+     */
+    private static boolean isWildDrawFourAllowed(CardColor activeColor, HandView hand) {
+        return activeColor == CardColor.NONE || !hand.hasColor(activeColor);
+    }
+
+    /**
+     * Writes the moves of one word of a playable id bitset.
+     *
+     * @param playable The playable cards of this word
+     * @param base The id of bit 0 of the word
+     * @param wild The Wild cards of this word
+     * @param moves The buffer
+     * @param count The number of moves already in the buffer
+     * @return The number of moves in the buffer afterwards
+     */
+    private static int writeMoves(long playable, int base, long wild, int[] moves, int count) {
+        for (long bits = playable; bits != 0; bits &= bits - 1) {
+            int bit = Long.numberOfTrailingZeros(bits);
+            int cardMove = (base + bit) << COLOR_BITS;
+            if ((wild & (1L << bit)) == 0) {
+                moves[count++] = cardMove | CardColor.NONE.ordinal();
+            } else {
+                for (int color = 0; color < CardColor.DECLARABLE_COUNT; color++) {
+                    moves[count++] = cardMove | color;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Packs a card and a declared color into a move.
+     *
+     * @param cardId The registry id of the played card
+     * @param color The declared color, NONE for a colored card
+     * @return The move
+     */
+    public static int encode(int cardId, CardColor color) {
+        return cardId << COLOR_BITS | color.ordinal();
+    }
+
+    /**
+     * Gets the registry id of the card a move plays.
+     *
+     * @param move A move other than DRAW
+     * @return The card id
+     */
+    public static int cardId(int move) {
+        return move >>> COLOR_BITS;
+    }
+
+    /**
+     * Gets the color a move declares.
+     *
+     * @param move A move other than DRAW
+     * @return The declared color, NONE for a colored card
+     */
+    public static CardColor color(int move) {
+        return CardColor.of(move & COLOR_MASK);
+    }
+}
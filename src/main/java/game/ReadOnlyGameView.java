@@ -0,0 +1,96 @@
+package main.java.game;
+
+import java.util.SplittableRandom;
+
+import main.java.cards.Card;
+import main.java.cards.CardColor;
+
+/**
+ * GameView that forwards to a mediator without exposing it.
+ * Strategies receive this object instead of the mediator itself, so they cannot cast the view
+ * back and change the game. Each mediator creates one and hands out the same instance on every
+ * turn.
+ */
+final class ReadOnlyGameView implements GameView {
+    private final GameView game;
+
+    /**
+     * Constructs a view of a game.
+     *
+     * @param game The mediator to read from
+     */
+    ReadOnlyGameView(GameView game) {
+        this.game = game;
+    }
+
+    /**
+     * Gets the card on top of the discard pile.
+     *
+     * @return The top card, or null before the first card is turned over
+     */
+    @Override
+    public Card getTopCard() {
+        return game.getTopCard();
+    }
+
+    /**
+     * Gets the active color that the next card must match.
+     *
+     * @return The active color, or NONE if no color has been declared
+     */
+    @Override
+    public CardColor getActiveColor() {
+        return game.getActiveColor();
+    }
+
+    /**
+     * Gets the number of seated players.
+     *
+     * @return The player count
+     */
+    @Override
+    public int getPlayerCount() {
+        return game.getPlayerCount();
+    }
+
+    /**
+     * Gets the seat of the current player.
+     *
+     * @return The current seat index, or NO_SEAT if no turn order has been set yet
+     */
+    @Override
+    public int getCurrentSeat() {
+        return game.getCurrentSeat();
+    }
+
+    /**
+     * Gets the number of cards held by the player in a seat.
+     *
+     * @param seat The seat index
+     * @return The hand size of that player
+     */
+    @Override
+    public int getHandSize(int seat) {
+        return game.getHandSize(seat);
+    }
+
+    /**
+     * Checks the direction of play.
+     *
+     * @return True if play moves to higher seats, false if it moves to lower seats
+     */
+    @Override
+    public boolean isClockwise() {
+        return game.isClockwise();
+    }
+
+    /**
+     * Gets the random stream of the game.
+     *
+     * @return The game's random stream
+     */
+    @Override
+    public SplittableRandom getRandom() {
+        return game.getRandom();
+    }
+}
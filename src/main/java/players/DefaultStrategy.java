@@ -0,0 +1,138 @@
+package main.java.players;
+
+import main.java.cards.CardColor;
+import main.java.cards.CardMasks;
+import main.java.cards.CardRegistry;
+import main.java.cards.PlayabilityTable;
+import main.java.game.GameView;
+
+/**
+ * DefaultStrategy is the built-in player behavior.
+ * It plays a plain Wild card with 30% probability when it holds one, otherwise the playable card
+ * with the highest point value, and a Wild Draw Four only as a last resort. For a Wild card it
+ * declares the color it holds most cards of, choosing randomly on a tie.
+ * Works on the hand's id bitset, so no lists are built and no strings are compared per card.
+ * The strategy is stateless and shared by all players.
+ */
+public final class DefaultStrategy implements PlayerStrategy {
+    /** The shared instance */
+    public static final DefaultStrategy INSTANCE = new DefaultStrategy();
+
+    private DefaultStrategy() {
+    }
+
+    /**
+     * Chooses a random Wild card, the highest-value playable card or a Wild Draw Four, in that order.
+     *
+     * @param game The table as seen by the player
+     * @param hand The player's hand
+     * @return The registry id of the chosen card, or NO_CARD if no playable card exists
+     */
+    @Override
+    public int selectCard(GameView game, HandView hand) {
+        long low = hand.getLow();
+        long high = hand.getHigh();
+        CardColor activeColor = game.getActiveColor();
+
+        // Maybe play a Wild card (with 30% probability if available)
+        long wildLow = low & CardMasks.PLAIN_WILD_LOW;
+        long wildHigh = high & CardMasks.PLAIN_WILD_HIGH;
+        if ((wildLow | wildHigh) != 0 && game.getRandom().nextDouble() < 0.3) {
+            return firstId(wildLow, wildHigh);
+        }
+
+        // Find all non-Wild Draw Four playable cards
+        int state = PlayabilityTable.state(activeColor, game.getTopCard().getId());
+        long playableLow = low & ~CardMasks.WILD_DRAW_FOUR_LOW & PlayabilityTable.playableLow(state);
+        long playableHigh = high & ~CardMasks.WILD_DRAW_FOUR_HIGH & PlayabilityTable.playableHigh(state);
+
+        // If has regular playable cards, select the card with the highest value
+        if ((playableLow | playableHigh) != 0) {
+            return highestValueId(playableLow, playableHigh);
+        }
+
+        // Can only play Wild Draw Four if no card matches the color to play
+        long wildDrawFourLow = low & CardMasks.WILD_DRAW_FOUR_LOW;
+        long wildDrawFourHigh = high & CardMasks.WILD_DRAW_FOUR_HIGH;
+        if ((wildDrawFourLow | wildDrawFourHigh) != 0 && !hand.hasColor(activeColor)) {
+            return firstId(wildDrawFourLow, wildDrawFourHigh);
+        }
+
+        // No playable cards
+        return NO_CARD;
+    }
+
+    /**
+     * Chooses the color the player has the most cards of, or a random color if tied.
+     *
+     * @param game The table as seen by the player
+     * @param hand The player's hand
+     * @return The selected color
+     */
+    @Override
+    public CardColor selectColor(GameView game, HandView hand) {
+        // Find the color with the maximum count
+        CardColor maxColor = CardColor.RED; // Default
+        int maxCount = -1;
+        boolean isTied = false;
+
+        for (int ordinal = 0; ordinal < CardColor.DECLARABLE_COUNT; ordinal++) {
+            CardColor color = CardColor.of(ordinal);
+            int count = hand.countColor(color);
+            if (count > maxCount) {
+                maxColor = color;
+                maxCount = count;
+                isTied = false;
+            } else if (count == maxCount && maxCount > 0) {
+                isTied = true;
+            }
+        }
+
+        // If tied or no colored cards, choose randomly
+        if (isTied || maxCount == 0) {
+            maxColor = CardColor.of(game.getRandom().nextInt(CardColor.DECLARABLE_COUNT));
+        }
+
+        return maxColor;
+    }
+
+    /**
+     * Gets the lowest card id in a non-empty id bitset.
+     *
+     * @param low The bits for ids 0-63
+     * @param high The bits for ids 64-107
+     * @return The lowest id in the set
+     */
+    private static int firstId(long low, long high) {
+        return low != 0 ? Long.numberOfTrailingZeros(low) : 64 + Long.numberOfTrailingZeros(high);
+    }
+
+    /**
+     * Finds the card with the highest point value in a non-empty id bitset.
+     *
+     * @param low The bits for ids 0-63
+     * @param high The bits for ids 64-107
+     * @return The id of the highest-value card, the lowest id winning ties
+     */
+    private static int highestValueId(long low, long high) {
+        int best = -1;
+        int bestValue = -1;
+        for (long bits = low; bits != 0; bits &= bits - 1) {
+            int id = Long.numberOfTrailingZeros(bits);
+            int value = CardRegistry.get(id).getValue();
+            if (value > bestValue) {
+                best = id;
+                bestValue = value;
+            }
+        }
+        for (long bits = high; bits != 0; bits &= bits - 1) {
+            int id = 64 + Long.numberOfTrailingZeros(bits);
+            int value = CardRegistry.get(id).getValue();
+            if (value > bestValue) {
+                best = id;
+                bestValue = value;
+            }
+        }
+        return best;
+    }
+}
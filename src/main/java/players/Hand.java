@@ -0,0 +1,346 @@
+package main.java.players;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import main.java.cards.Card;
+import main.java.cards.CardColor;
+import main.java.cards.CardMasks;
+import main.java.cards.CardRegistry;
+
+/**
+ * Hand holds the cards of a player.
+ * Besides the ordered card list used for display, it keeps a bitset of the registry ids
+ * it contains, two longs for the 108 cards of the deck. Questions such as "which cards are
+ * playable" or "is a card of this color held" are answered with mask operations.
+ *
+ * <p>Every card sits in a slot, its position in the card list, and the hand indexes the slot
+ * of each held id. A card is removed in constant time by moving the last card into its slot,
+ * so removal does not keep the order in which the cards were added.</p>
+ *
+ * <p>The total point value and the number of cards of each color are kept up to date on every
+ * add and remove, so scoring and color questions never look at the cards. Running with
+ * {@code -Duno.verifyHands=true} recomputes both after every change and fails on a mismatch.</p>
+ */
+public class Hand implements HandView {
+    /** Slot returned when a card is not in the hand */
+    public static final int NO_SLOT = -1;
+
+    /** Whether every change cross-checks the running aggregates against the cards */
+    private static final boolean VERIFY = Boolean.getBoolean("uno.verifyHands");
+
+    private final List<Card> cards;
+    private final List<Card> view;
+    private final HandView readOnly = new ReadOnlyHandView(this);
+    private final byte[] slotOfId = new byte[CardRegistry.DECK_SIZE];
+    private final int[] colorCounts = new int[CardColor.COUNT];
+    private long low;
+    private long high;
+    private int value;
+
+    /**
+     * Constructs an empty hand.
+     */
+    public Hand() {
+        this.cards = new ArrayList<>();
+        this.view = Collections.unmodifiableList(cards);
+    }
+
+    /**
+     * Adds a card to the hand.
+     *
+     * @param card The card to add
+     * @throws IllegalArgumentException if the card is not a registry card
+     */
+    public void add(Card card) {
+        int id = card.getId();
+        if (id < 0 || id >= CardRegistry.DECK_SIZE) {
+            throw new IllegalArgumentException("Only registry cards can be held in a hand");
+        }
+        if (contains(card)) {
+            throw new IllegalArgumentException("Card is already in the hand: " + card);
+        }
+        slotOfId[id] = (byte) cards.size();
+        cards.add(card);
+        if (id < 64) {
+            low |= 1L << id;
+        } else {
+            high |= 1L << (id - 64);
+        }
+        colorCounts[card.getCardColor().ordinal()]++;
+        value += card.getValue();
+        if (VERIFY) {
+            verify();
+        }
+    }
+
+    /**
+     * Removes a card from the hand.
+     *
+     * @param card The card to remove
+     * @return True if the card was in the hand, false otherwise
+     */
+    public boolean remove(Card card) {
+        int slot = slotOf(card);
+        if (slot == NO_SLOT) {
+            return false;
+        }
+        removeAt(slot);
+        return true;
+    }
+
+    /**
+     * Removes the card in a slot by moving the last card into it.
+     *
+     * @param slot The slot of the card to remove
+     * @return The removed card
+     * @throws IndexOutOfBoundsException if the slot is not occupied
+     */
+    public Card removeAt(int slot) {
+        Card card = cards.get(slot);
+        int last = cards.size() - 1;
+        if (slot != last) {
+            Card moved = cards.get(last);
+            cards.set(slot, moved);
+            slotOfId[moved.getId()] = (byte) slot;
+        }
+        cards.remove(last);
+        int id = card.getId();
+        if (id < 64) {
+            low &= ~(1L << id);
+        } else {
+            high &= ~(1L << (id - 64));
+        }
+        colorCounts[card.getCardColor().ordinal()]--;
+        value -= card.getValue();
+        if (VERIFY) {
+            verify();
+        }
+        return card;
+    }
+
+    /**
+     * Gets the card in a slot.
+     *
+     * @param slot The slot, between 0 and size - 1
+     * @return The card in the slot
+     * @throws IndexOutOfBoundsException if the slot is not occupied
+     */
+    public Card get(int slot) {
+        return cards.get(slot);
+    }
+
+    /**
+     * Finds the slot of a card.
+     *
+     * @param card The card to look for
+     * @return The card's slot, or NO_SLOT if the card is not in the hand
+     */
+    public int slotOf(Card card) {
+        return contains(card) ? slotOfId[card.getId()] : NO_SLOT;
+    }
+
+    /**
+     * Checks whether the hand holds a card.
+     * A card without a registry id, such as one with Card.NO_ID, is never held.
+     *
+     * @param card The card to check
+     * @return True if the card is in the hand
+     */
+    public boolean contains(Card card) {
+        int id = card.getId();
+        if (id < 0 || id >= CardRegistry.DECK_SIZE) {
+            return false;
+        }
+        return id < 64 ? (low & (1L << id)) != 0 : (high & (1L << (id - 64))) != 0;
+    }
+
+    /**
+     * Removes all cards from the hand.
+     */
+    public void clear() {
+        cards.clear();
+        low = 0;
+        high = 0;
+        Arrays.fill(colorCounts, 0);
+        value = 0;
+    }
+
+    /**
+     * Moves all cards of the hand to the end of a list, in slot order, and empties the hand.
+     *
+     * @param target The list that receives the cards
+     */
+    public void takeAll(List<Card> target) {
+        // Copy one by one; addAll would copy the cards into a temporary array first
+        for (int slot = 0; slot < cards.size(); slot++) {
+            target.add(cards.get(slot));
+        }
+        clear();
+    }
+
+    /**
+     * Gets the number of cards in the hand.
+     *
+     * @return The hand size
+     */
+    @Override
+    public int size() {
+        return cards.size();
+    }
+
+    /**
+     * Checks whether the hand is empty.
+     *
+     * @return True if the hand holds no cards
+     */
+    public boolean isEmpty() {
+        return cards.isEmpty();
+    }
+
+    /**
+     * Checks whether the hand holds any card of the given color.
+     *
+     * @param color The color to look for
+     * @return True if a card of that color is held
+     */
+    @Override
+    public boolean hasColor(CardColor color) {
+        return colorCounts[color.ordinal()] != 0;
+    }
+
+    /**
+     * Counts the cards of the given color in the hand.
+     *
+     * @param color The color to count
+     * @return The number of cards of that color
+     */
+    @Override
+    public int countColor(CardColor color) {
+        return colorCounts[color.ordinal()];
+    }
+
+    /**
+     * Gets the total point value of the cards in the hand.
+     *
+     * @return The sum of the card values
+     */
+    @Override
+    public int getValue() {
+        return value;
+    }
+
+    /**
+     * Recomputes the aggregates from the cards and the id bitset and compares them with the
+     * running values.
+     *
+     * @throws IllegalStateException if an aggregate or the slot index disagrees with the cards
+     */
+    public void verify() {
+        if (Long.bitCount(low) + Long.bitCount(high) != cards.size()) {
+            throw new IllegalStateException("Hand bitset holds " + (Long.bitCount(low) + Long.bitCount(high))
+                    + " cards but the hand has " + cards.size());
+        }
+        int total = 0;
+        for (int slot = 0; slot < cards.size(); slot++) {
+            Card card = cards.get(slot);
+            if (!contains(card) || slotOfId[card.getId()] != slot) {
+                throw new IllegalStateException("Hand index is wrong for " + card + " in slot " + slot);
+            }
+            total += card.getValue();
+        }
+        if (total != value) {
+            throw new IllegalStateException("Hand value is " + value + " but the cards are worth " + total);
+        }
+        for (int ordinal = 0; ordinal < CardColor.COUNT; ordinal++) {
+            CardColor color = CardColor.of(ordinal);
+            int count = Long.bitCount(low & CardMasks.colorLow(color)) + Long.bitCount(high & CardMasks.colorHigh(color));
+            if (count != colorCounts[ordinal]) {
+                throw new IllegalStateException("Hand counts " + colorCounts[ordinal] + " " + color
+                        + " cards but holds " + count);
+            }
+        }
+    }
+
+    /**
+     * Gets the low word of the hand's id bitset.
+     *
+     * @return The bits for ids 0-63
+     */
+    @Override
+    public long getLow() {
+        return low;
+    }
+
+    /**
+     * Gets the high word of the hand's id bitset.
+     *
+     * @return The bits for ids 64-107
+     */
+    @Override
+    public long getHigh() {
+        return high;
+    }
+
+    /**
+     * Gets a read-only view of the cards in slot order.
+     *
+     * @return An unmodifiable view of the cards
+     */
+    public List<Card> getCards() {
+        return view;
+    }
+
+    /**
+     * Gets a read-only view of the hand's bitset and aggregates.
+     * Unlike the hand itself, the view cannot be cast back to a Hand and changed.
+     *
+     * @return The live read-only view; the same instance every time
+     */
+    public HandView asReadOnly() {
+        return readOnly;
+    }
+
+    /**
+     * HandView that forwards to a hand without exposing it.
+     */
+    private static final class ReadOnlyHandView implements HandView {
+        private final HandView hand;
+
+        ReadOnlyHandView(HandView hand) {
+            this.hand = hand;
+        }
+
+        @Override
+        public int size() {
+            return hand.size();
+        }
+
+        @Override
+        public long getLow() {
+            return hand.getLow();
+        }
+
+        @Override
+        public long getHigh() {
+            return hand.getHigh();
+        }
+
+        @Override
+        public boolean hasColor(CardColor color) {
+            return hand.hasColor(color);
+        }
+
+        @Override
+        public int countColor(CardColor color) {
+            return hand.countColor(color);
+        }
+
+        @Override
+        public int getValue() {
+            return hand.getValue();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package main.java.players;
+
+import main.java.cards.CardColor;
+
+/**
+ * Read-only view of a hand, in the form a strategy works with: the bitset of held card ids
+ * and the running aggregates. Strategies receive a read-only wrapper that each hand creates
+ * once, so no copy is made and the view cannot be cast back to the hand.
+ */
+public interface HandView {
+
+    /**
+     * Gets the number of cards in the hand.
+     *
+     * @return The hand size
+     */
+    int size();
+
+    /**
+     * Gets the low word of the hand's id bitset.
+     *
+     * @return The bits for ids 0-63
+     */
+    long getLow();
+
+    /**
+     * Gets the high word of the hand's id bitset.
+     *
+     * @return The bits for ids 64-107
+     */
+    long getHigh();
+
+    /**
+     * Checks whether the hand holds any card of the given color.
+     *
+     * @param color The color to look for
+     * @return True if a card of that color is held
+     */
+    boolean hasColor(CardColor color);
+
+    /**
+     * Counts the cards of the given color in the hand.
+     *
+     * @param color The color to count
+     * @return The number of cards of that color
+     */
+    int countColor(CardColor color);
+
+    /**
+     * Gets the total point value of the cards in the hand.
+     *
+     * @return The sum of the card values
+     */
+    int getValue();
+}
@@ -2,36 +2,59 @@ package main.java.players;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.concurrent.ThreadLocalRandom;
 
 import main.java.cards.Card;
+import main.java.cards.CardColor;
+import main.java.cards.CardRegistry;
 import main.java.game.IGameMediator;
 import main.java.game.IGameComponent;
 import main.java.game.GameComponentType;
-import main.java.utils.ConsoleColors;
+import main.java.game.GameView;
+import main.java.game.MoveGenerator;
+import main.java.ui.GameUI;
 
 /**
  * Player class represents a player in the UNO game.
  * It encapsulates the player's state (name, hand) and behavior (playing cards).
+ * Decisions about which card to play and which color to declare are delegated to a PlayerStrategy.
  * Follows the Mediator pattern by interacting with the game through IGameMediator.
  * Implements IGameComponent interface to participate in the Mediator pattern.
  */
 public class Player implements IGameComponent {
     private final String name;
-    private List<Card> hand;
+    private final Hand hand;
+    private final HandView handState;
     private IGameMediator mediator;
+    private PlayerStrategy strategy;
     private boolean isDealer;
+    private int seat;
 
     /**
-     * Constructs a new Player with the given name.
+     * Constructs a new Player with the given name and the default strategy.
      * 
      * @param name The player's name
      */
     public Player(String name) {
+        this(name, DefaultStrategy.INSTANCE);
+    }
+
+    /**
+     * Constructs a new Player with the given name and strategy.
+     * 
+     * @param name The player's name
+     * @param strategy The strategy that chooses the player's cards and colors
+     * @throws IllegalArgumentException if the strategy is null
+     */
+    public Player(String name, PlayerStrategy strategy) {
+        if (strategy == null) {
+            throw new IllegalArgumentException("Strategy cannot be null");
+        }
         this.name = name;
-        this.hand = new ArrayList<>();
+        this.strategy = strategy;
+        this.hand = new Hand();
+        this.handState = hand.asReadOnly();
         this.isDealer = false;
+        this.seat = IGameMediator.NO_SEAT;
     }
 
     /**
@@ -40,10 +63,35 @@ public class Player implements IGameComponent {
      * @param card The card to play
      */
     public void playCard(Card card) {
-        if (!hand.contains(card)) {
+        if (!hand.remove(card)) {
             throw new IllegalArgumentException("Player doesn't have this card in hand");
         }
-        hand.remove(card);
+    }
+
+    /**
+     * Plays the card in a slot of the player's hand.
+     * The last card of the hand takes the played card's slot.
+     * 
+     * @param slot The slot of the card to play, as returned by {@link #selectPlayableSlot}
+     * @return The played card
+     * @throws IllegalArgumentException if the slot holds no card
+     */
+    public Card playCardAt(int slot) {
+        if (slot < 0 || slot >= hand.size()) {
+            throw new IllegalArgumentException("No card in hand slot " + slot);
+        }
+        return hand.removeAt(slot);
+    }
+
+    /**
+     * Gets the card in a slot of the player's hand.
+     * 
+     * @param slot The slot, between 0 and the hand size - 1
+     * @return The card in the slot
+     * @throws IndexOutOfBoundsException if the slot holds no card
+     */
+    public Card getCardAt(int slot) {
+        return hand.get(slot);
     }
 
     /**
@@ -54,74 +102,113 @@ public class Player implements IGameComponent {
             throw new IllegalStateException("Player is not connected to a game mediator");
         }
         Card drawnCard = mediator.requestDraw();
+        if (drawnCard == null) {
+            return;
+        }
         hand.add(drawnCard);
-        System.out.println(ConsoleColors.WHITE + name + " drew " + ConsoleColors.formatCard(drawnCard.toString()) + ConsoleColors.RESET);
+        GameUI ui = mediator.getUI();
+        if (ui != null) {
+            ui.displayPlayerDrewCard(name, drawnCard.toString());
+        }
     }
 
     /**
-     * Selects a playable card from the player's hand.
-     * Implements strategy for card selection.
+     * Selects a playable card from the player's hand, as chosen by the player's strategy.
      * 
-     * @param topCard The current top card on the discard pile
      * @return The selected card, or null if no playable card exists
+     * @throws IllegalStateException if the player is not connected to a game mediator
+     */
+    public Card selectPlayableCard() {
+        int slot = selectPlayableSlot();
+        return slot == Hand.NO_SLOT ? null : hand.get(slot);
+    }
+
+    /**
+     * Asks the player's strategy for a card to play on the mediator's top card and active color,
+     * and returns its slot, which {@link #playCardAt(int)} removes in constant time.
+     * 
+     * @return The slot of the selected card, or Hand.NO_SLOT if the player draws instead
+     * @throws IllegalStateException if the player is not connected to a game mediator,
+     *         or the strategy chose a card that is not in the hand or may not be played
      */
-    public Card selectPlayableCard(Card topCard) {
-        // Always check for Wild cards first, as they can be played anytime
-        List<Card> wildCards = hand.stream()
-                .filter(card -> card.getType().equals("Wild"))
-                .collect(Collectors.toList());
-        
-        // Maybe play a Wild card (with 30% probability if available)
-        if (!wildCards.isEmpty() && ThreadLocalRandom.current().nextDouble() < 0.3) {
-            return wildCards.get(0);
+    public int selectPlayableSlot() {
+        if (mediator == null) {
+            throw new IllegalStateException("Player is not connected to a game mediator");
+        }
+        GameView view = mediator.getView();
+        int id = strategy.selectCard(view, handState);
+        if (id == PlayerStrategy.NO_CARD) {
+            return Hand.NO_SLOT;
         }
-        
-        // Find all non-Wild Draw Four playable cards
-        List<Card> regularPlayableCards = hand.stream()
-                .filter(card -> !card.getType().equals("Wild Draw Four") && isPlayable(card, topCard))
-                .collect(Collectors.toList());
-        
-        // If has regular playable cards, use them
-        if (!regularPlayableCards.isEmpty()) {
-            // Select the card with the highest value
-            return regularPlayableCards.stream()
-                    .max((c1, c2) -> Integer.compare(c1.getValue(), c2.getValue()))
-                    .orElse(regularPlayableCards.get(0));
+        int slot = id >= 0 && id < CardRegistry.DECK_SIZE ? hand.slotOf(CardRegistry.get(id)) : Hand.NO_SLOT;
+        if (slot == Hand.NO_SLOT) {
+            throw new IllegalStateException("Strategy of " + name + " chose card id " + id + ", which is not in the hand");
         }
-        
-        // Check if we have a Wild Draw Four and if it's valid to play
-        // (only if we have no other card matching the color of the top card)
-        List<Card> wildDrawFourCards = hand.stream()
-                .filter(card -> card.getType().equals("Wild Draw Four"))
-                .collect(Collectors.toList());
-                
-        if (!wildDrawFourCards.isEmpty()) {
-            // Check if player has any card matching the top card color
-            boolean hasMatchingColor = hand.stream()
-                .anyMatch(card -> card.getColor().equals(topCard.getColor()));
-                
-            // Can only play Wild Draw Four if no matching color
-            if (!hasMatchingColor) {
-                return wildDrawFourCards.get(0);
-            }
+        if (!MoveGenerator.isLegalPlay(view, handState, id)) {
+            throw new IllegalStateException("Strategy of " + name + " chose " + hand.get(slot)
+                    + ", which may not be played on " + view.getTopCard() + " with active color " + view.getActiveColor());
         }
-        
-        // No playable cards
-        return null;
+        return slot;
     }
 
     /**
-     * Determines if a card is playable on the current top card.
+     * Asks the player's strategy for the color to declare after playing a Wild card.
+     * 
+     * @return The declared color
+     * @throws IllegalStateException if the player is not connected to a game mediator,
+     *         or the strategy chose no color
+     */
+    public CardColor selectColor() {
+        if (mediator == null) {
+            throw new IllegalStateException("Player is not connected to a game mediator");
+        }
+        CardColor color = strategy.selectColor(mediator.getView(), handState);
+        if (color == null || color == CardColor.NONE) {
+            throw new IllegalStateException("Strategy of " + name + " declared no color");
+        }
+        return color;
+    }
+
+    /**
+     * Gets the strategy that makes this player's decisions.
+     * 
+     * @return The player's strategy
+     */
+    public PlayerStrategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * Sets the strategy that makes this player's decisions.
+     * 
+     * @param strategy The new strategy
+     * @throws IllegalArgumentException if the strategy is null
+     */
+    public void setStrategy(PlayerStrategy strategy) {
+        if (strategy == null) {
+            throw new IllegalArgumentException("Strategy cannot be null");
+        }
+        this.strategy = strategy;
+    }
+    
+    /**
+     * Checks whether the player holds any card of the given color.
+     * 
+     * @param color The color to look for, NONE for colorless cards
+     * @return True if a card of that color is in the hand
+     */
+    public boolean holdsColor(CardColor color) {
+        return hand.hasColor(color);
+    }
+    
+    /**
+     * Counts the cards of the given color in the player's hand.
      * 
-     * @param card The card to check
-     * @param topCard The top card on the discard pile
-     * @return True if the card is playable, false otherwise
+     * @param color The color to count
+     * @return The number of cards of that color
      */
-    private boolean isPlayable(Card card, Card topCard) {
-        return card.getColor().equals(topCard.getColor()) || 
-               card.getType().equals(topCard.getType()) ||
-               card.getType().equals("Wild") ||
-               card.getType().equals("Wild Draw Four");
+    public int countColor(CardColor color) {
+        return hand.countColor(color);
     }
 
     /**
@@ -136,11 +223,51 @@ public class Player implements IGameComponent {
     /**
      * Gets the player's hand.
      * Returns a defensive copy to prevent external modification.
+     * Callers that only read the hand should use {@link #getHandView()}, which does not copy.
      * 
      * @return A copy of the player's hand
      */
     public List<Card> getHand() {
-        return new ArrayList<>(hand);
+        return new ArrayList<>(hand.getCards());
+    }
+
+    /**
+     * Gets a read-only view of the player's hand.
+     * The view is live: it reflects later changes to the hand, so it must not be iterated
+     * while the hand changes.
+     * 
+     * @return An unmodifiable view of the hand, in slot order
+     */
+    public List<Card> getHandView() {
+        return hand.getCards();
+    }
+
+    /**
+     * Gets the read-only id bitset and running aggregates of the player's hand, the form
+     * strategies and the move generator work with.
+     * 
+     * @return The hand as a HandView, live like {@link #getHandView()}
+     */
+    public HandView getHandState() {
+        return handState;
+    }
+
+    /**
+     * Gets the number of cards in the player's hand.
+     * 
+     * @return The hand size
+     */
+    public int getHandSize() {
+        return hand.size();
+    }
+
+    /**
+     * Checks whether the player has no cards left.
+     * 
+     * @return True if the hand is empty
+     */
+    public boolean hasEmptyHand() {
+        return hand.isEmpty();
     }
 
     /**
@@ -150,7 +277,10 @@ public class Player implements IGameComponent {
      * @param hand The new hand
      */
     public void setHand(List<Card> hand) {
-        this.hand = new ArrayList<>(hand);
+        this.hand.clear();
+        for (Card card : hand) {
+            this.hand.add(card);
+        }
     }
 
     /**
@@ -172,6 +302,15 @@ public class Player implements IGameComponent {
         hand.clear();
     }
 
+    /**
+     * Moves all cards from the player's hand to the end of a list, leaving the hand empty.
+     * 
+     * @param target The list that receives the cards
+     */
+    public void takeAllCards(List<Card> target) {
+        hand.takeAll(target);
+    }
+
     /**
      * Sets the mediator for this component.
      * 
@@ -183,16 +322,13 @@ public class Player implements IGameComponent {
     }
 
     /**
-     * Calculates the total point value of all cards in the player's hand.
+     * Gets the total point value of all cards in the player's hand.
+     * The hand keeps the total up to date as cards are added and removed.
      * 
      * @return The sum of all card values in the hand
      */
     public int calculateHandValue() {
-        int total = 0;
-        for (Card card : hand) {
-            total += card.getValue();
-        }
-        return total;
+        return hand.getValue();
     }
     
     /**
@@ -213,6 +349,25 @@ public class Player implements IGameComponent {
         return isDealer;
     }
 
+    /**
+     * Sets the seat this player occupies at the table.
+     * Assigned by the mediator when the player joins a game.
+     * 
+     * @param seat The seat index
+     */
+    public void setSeat(int seat) {
+        this.seat = seat;
+    }
+    
+    /**
+     * Gets the seat this player occupies at the table.
+     * 
+     * @return The seat index, or IGameMediator.NO_SEAT if the player has not joined a game
+     */
+    public int getSeat() {
+        return seat;
+    }
+    
     /**
      * Gets the type of this component.
      * 
@@ -0,0 +1,37 @@
+package main.java.players;
+
+import main.java.cards.CardColor;
+import main.java.game.GameView;
+
+/**
+ * PlayerStrategy makes a player's decisions: which card to play and which color to declare
+ * for a Wild card. The player asks its strategy on every turn, so implementations should not
+ * allocate. Decisions are returned as a card id and a color constant, and all randomness must
+ * come from {@link GameView#getRandom()} to keep games reproducible from their seed.
+ */
+public interface PlayerStrategy {
+
+    /** Card id returned when the strategy plays no card and draws instead */
+    int NO_CARD = -1;
+
+    /**
+     * Chooses the card to play on the current top card.
+     * The card must be in the hand and playable on the view's top card and active color.
+     * A Wild Draw Four may only be chosen when the hand holds no card of the active color.
+     *
+     * @param game The table as seen by the player
+     * @param hand The player's hand
+     * @return The registry id of the chosen card, or NO_CARD to draw
+     */
+    int selectCard(GameView game, HandView hand);
+
+    /**
+     * Chooses the color to declare after playing a Wild card.
+     * The played card has already left the hand.
+     *
+     * @param game The table as seen by the player
+     * @param hand The player's hand
+     * @return The declared color, never NONE
+     */
+    CardColor selectColor(GameView game, HandView hand);
+}
@@ -0,0 +1,105 @@
+package main.java.simulation;
+
+import java.util.SplittableRandom;
+
+import main.java.game.GameMediator;
+import main.java.game.GameMode;
+import main.java.game.GameState;
+import main.java.utils.NoOpScoreSink;
+import main.java.utils.ScoreTracker;
+
+/**
+ * GameTable is a single live table hosted by a TableHost.
+ * It owns a headless GameMediator and plays one turn each time a player decision
+ * becomes available. When a game ends the table resets the same mediator and immediately
+ * starts the next game. Every game is seeded from the table seed and the number of games the
+ * table has finished, so a table plays the same sequence of games on every run.
+ * A table is driven by one thread at a time and is not safe for concurrent turns.
+ */
+public class GameTable {
+    private final int id;
+    private final long seed;
+    private final LatencyStats latency;
+    private final GameMediator mediator;
+    private long gamesCompleted;
+
+    /**
+     * Constructs a table and deals its first game.
+     *
+     * @param id The table identifier
+     * @param numPlayers The number of players seated at the table
+     * @param seed The seed from which the seed of every game at this table is derived
+     */
+    public GameTable(int id, int numPlayers, long seed) {
+        this.id = id;
+        this.seed = seed;
+        this.latency = new LatencyStats();
+        this.mediator = new GameMediator(GameMode.HEADLESS, new ScoreTracker(NoOpScoreSink.INSTANCE), nextGameRandom());
+        mediator.createPlayers(numPlayers);
+        mediator.startGame();
+    }
+
+    /**
+     * Plays the turn for which a player decision has become available.
+     * The recorded latency runs from the moment the decision was ready until the turn is complete.
+     *
+     * @param decisionReadyNanos The System.nanoTime() at which the decision became available
+     */
+    public void playTurn(long decisionReadyNanos) {
+        mediator.advance();
+
+        // A finished round is dealt right away, so the next decision is for a turn again
+        if (mediator.getGameState() == GameState.ROUND_OVER) {
+            mediator.startNextRound();
+        } else if (mediator.isGameOver()) {
+            gamesCompleted++;
+            startNewGame();
+        }
+
+        latency.record(System.nanoTime() - decisionReadyNanos);
+    }
+
+    /**
+     * Resets the mediator for the next game and deals it.
+     */
+    private void startNewGame() {
+        mediator.reset(nextGameRandom());
+        mediator.startGame();
+    }
+
+    /**
+     * Creates the random stream of the next game from the table seed and the number of finished games.
+     *
+     * @return The random stream of the next game
+     */
+    private SplittableRandom nextGameRandom() {
+        return new SplittableRandom(TournamentRunner.gameSeed(seed, gamesCompleted));
+    }
+
+    /**
+     * Gets the table identifier.
+     *
+     * @return The table id
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Gets the number of games this table has finished.
+     *
+     * @return The completed game count
+     */
+    public long getGamesCompleted() {
+        return gamesCompleted;
+    }
+
+    /**
+     * Gets the turn latencies recorded by this table.
+     *
+     * @return The latency stats
+     */
+    public LatencyStats getLatency() {
+        return latency;
+    }
+}
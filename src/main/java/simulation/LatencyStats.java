@@ -0,0 +1,90 @@
+package main.java.simulation;
+
+/**
+ * LatencyStats records turn latencies into a fixed power-of-two histogram.
+ * Recording never allocates, and each table keeps its own instance so the hot path
+ * needs no synchronization; instances are merged when results are reported.
+ */
+public class LatencyStats {
+    private static final int BUCKETS = 64;
+
+    private final long[] buckets = new long[BUCKETS];
+    private long count;
+    private long totalNanos;
+    private long maxNanos;
+
+    /**
+     * Records a single latency sample.
+     *
+     * @param nanos The latency in nanoseconds
+     */
+    public void record(long nanos) {
+        long sample = Math.max(nanos, 0);
+        buckets[BUCKETS - 1 - Long.numberOfLeadingZeros(sample | 1)]++;
+        count++;
+        totalNanos += sample;
+        maxNanos = Math.max(maxNanos, sample);
+    }
+
+    /**
+     * Adds the samples of another instance to this one.
+     *
+     * @param other The stats to merge in
+     */
+    public void merge(LatencyStats other) {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] += other.buckets[i];
+        }
+        count += other.count;
+        totalNanos += other.totalNanos;
+        maxNanos = Math.max(maxNanos, other.maxNanos);
+    }
+
+    /**
+     * Gets the number of recorded samples.
+     *
+     * @return The sample count
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the mean latency.
+     *
+     * @return The mean in nanoseconds, or 0 if nothing was recorded
+     */
+    public double getMeanNanos() {
+        return count == 0 ? 0.0 : (double) totalNanos / count;
+    }
+
+    /**
+     * Gets the largest recorded latency.
+     *
+     * @return The maximum in nanoseconds
+     */
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    /**
+     * Gets an upper bound for the given percentile.
+     * The bound is the upper edge of the histogram bucket the percentile falls into,
+     * but never more than the largest recorded latency.
+     *
+     * @param percentile The percentile between 0 and 100
+     * @return The percentile upper bound in nanoseconds
+     */
+    public long getPercentileNanos(double percentile) {
+        long threshold = (long) Math.ceil(count * percentile / 100.0);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += buckets[i];
+            if (seen >= threshold && seen > 0) {
+                long bound = i >= BUCKETS - 2 ? Long.MAX_VALUE : (2L << i) - 1;
+                return Math.min(bound, maxNanos);
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,197 @@
+package main.java.simulation;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * TableHost runs many live tables in one JVM.
+ * Every turn waits for a player decision, modelled as a fixed decision delay.
+ *
+ * <p>On Java 21 and newer each table is driven by its own virtual thread that simply
+ * sleeps while the decision is pending; a sleeping virtual thread is unmounted from its
+ * carrier and costs only its small heap-allocated stack. On older runtimes, where virtual
+ * threads are not available, the host falls back to scheduling each turn as a task on a
+ * small scheduler pool, so a table waiting for a decision holds no thread at all.</p>
+ *
+ * <p>On both paths a turn that throws is reported on standard error and its table is no
+ * longer driven, since its game is left in an unknown state; the other tables keep playing.</p>
+ */
+public class TableHost {
+    private final List<GameTable> tables;
+    private final long decisionDelayNanos;
+    private final ExecutorService virtualThreads;
+    private final ScheduledExecutorService scheduler;
+    private final AtomicInteger failedTables = new AtomicInteger();
+    private volatile boolean running;
+
+    /**
+     * Constructs a host with a random seed and deals the first game at every table.
+     *
+     * @param tableCount The number of tables to host
+     * @param numPlayers The number of players at each table
+     * @param decisionDelayMillis How long each player decision takes to arrive
+     */
+    public TableHost(int tableCount, int numPlayers, long decisionDelayMillis) {
+        this(tableCount, numPlayers, decisionDelayMillis, new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Constructs a host and deals the first game at every table.
+     * Each table's seed is derived from the host seed and the table's id, so the same seed
+     * gives every table the same sequence of games.
+     *
+     * @param tableCount The number of tables to host
+     * @param numPlayers The number of players at each table
+     * @param decisionDelayMillis How long each player decision takes to arrive
+     * @param seed The host seed from which every table's seed is derived
+     */
+    public TableHost(int tableCount, int numPlayers, long decisionDelayMillis, long seed) {
+        this.tables = new ArrayList<>(tableCount);
+        for (int i = 0; i < tableCount; i++) {
+            tables.add(new GameTable(i, numPlayers, TournamentRunner.gameSeed(seed, i)));
+        }
+        this.decisionDelayNanos = TimeUnit.MILLISECONDS.toNanos(decisionDelayMillis);
+        this.virtualThreads = newVirtualThreadExecutor();
+        this.scheduler = virtualThreads == null
+                ? Executors.newScheduledThreadPool(Runtime.getRuntime().availableProcessors())
+                : null;
+    }
+
+    /**
+     * Creates an executor that starts a new virtual thread per task.
+     * Looked up reflectively so the project still compiles and runs on runtimes without virtual threads.
+     *
+     * @return The executor, or null if the runtime does not support virtual threads
+     */
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Starts driving all tables.
+     *
+     * @throws IllegalStateException if the host is already running
+     */
+    public void start() {
+        if (running) {
+            throw new IllegalStateException("Table host is already running");
+        }
+        running = true;
+
+        for (GameTable table : tables) {
+            if (virtualThreads != null) {
+                virtualThreads.execute(() -> driveTable(table));
+            } else {
+                scheduleTurn(table);
+            }
+        }
+    }
+
+    /**
+     * Drives a table on its own virtual thread until the host stops.
+     * The thread parks while waiting for each player decision.
+     *
+     * @param table The table to drive
+     */
+    private void driveTable(GameTable table) {
+        try {
+            while (running) {
+                long decisionReady = System.nanoTime() + decisionDelayNanos;
+                TimeUnit.NANOSECONDS.sleep(decisionDelayNanos);
+                if (!playTurn(table, decisionReady)) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Schedules the next turn of a table for when its player decision arrives.
+     *
+     * @param table The table to schedule
+     */
+    private void scheduleTurn(GameTable table) {
+        long decisionReady = System.nanoTime() + decisionDelayNanos;
+        scheduler.schedule(() -> {
+            if (playTurn(table, decisionReady) && running) {
+                scheduleTurn(table);
+            }
+        }, decisionDelayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Plays one turn of a table, reporting a failed turn instead of letting it escape.
+     * Without this, the scheduler would keep the exception in a future nobody reads
+     * and the table would silently stop.
+     *
+     * @param table The table whose turn it is
+     * @param decisionReady When the player decision arrived, from System.nanoTime()
+     * @return True if the turn was played, false if it failed and the table must stop
+     */
+    private boolean playTurn(GameTable table, long decisionReady) {
+        try {
+            table.playTurn(decisionReady);
+            return true;
+        } catch (RuntimeException e) {
+            failedTables.incrementAndGet();
+            System.err.println("Table " + table.getId() + " stopped after a failed turn: " + e);
+            return false;
+        }
+    }
+
+    /**
+     * Stops all tables and waits for in-flight turns to finish.
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void stop() throws InterruptedException {
+        running = false;
+        ExecutorService executor = virtualThreads != null ? virtualThreads : scheduler;
+        executor.shutdown();
+        if (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Checks whether tables are driven by virtual threads.
+     *
+     * @return True if virtual threads are used, false if the scheduler fallback is used
+     */
+    public boolean usesVirtualThreads() {
+        return virtualThreads != null;
+    }
+
+    /**
+     * Gets the number of tables that stopped because a turn failed.
+     *
+     * @return The number of failed tables
+     */
+    public int getFailedTableCount() {
+        return failedTables.get();
+    }
+
+    /**
+     * Gets the hosted tables.
+     *
+     * @return An unmodifiable view of the tables
+     */
+    public List<GameTable> getTables() {
+        return Collections.unmodifiableList(tables);
+    }
+}
@@ -0,0 +1,141 @@
+package main.java.simulation;
+
+/**
+ * TournamentResult accumulates the outcome of a batch of games.
+ * Each worker fills its own instance, and the partial results are merged
+ * into the aggregate once the workers are done, so no state is shared while games run.
+ */
+public class TournamentResult {
+    private final long[] winsBySeat;
+    private long games;
+    private long totalRounds;
+    private long totalTurns;
+    private long totalReshuffles;
+
+    /**
+     * Constructs an empty result for games with the given number of players.
+     *
+     * @param numPlayers The number of players (seats) in every game
+     */
+    public TournamentResult(int numPlayers) {
+        this.winsBySeat = new long[numPlayers];
+    }
+
+    /**
+     * Records the outcome of a single game.
+     *
+     * @param winnerSeat The seat index of the game winner
+     * @param rounds The number of rounds the game took
+     * @param turns The number of turns the game took
+     * @param reshuffles The number of times the draw pile was replenished during the game
+     */
+    public void recordGame(int winnerSeat, int rounds, long turns, int reshuffles) {
+        winsBySeat[winnerSeat]++;
+        games++;
+        totalRounds += rounds;
+        totalTurns += turns;
+        totalReshuffles += reshuffles;
+    }
+
+    /**
+     * Adds the games of another result to this one.
+     *
+     * @param other The result to merge in
+     * @return This result, for chaining
+     * @throws IllegalArgumentException if the results have a different number of seats
+     */
+    public TournamentResult merge(TournamentResult other) {
+        if (other.winsBySeat.length != winsBySeat.length) {
+            throw new IllegalArgumentException("Cannot merge results for different player counts");
+        }
+        for (int seat = 0; seat < winsBySeat.length; seat++) {
+            winsBySeat[seat] += other.winsBySeat[seat];
+        }
+        games += other.games;
+        totalRounds += other.totalRounds;
+        totalTurns += other.totalTurns;
+        totalReshuffles += other.totalReshuffles;
+        return this;
+    }
+
+    /**
+     * Gets the number of games recorded.
+     *
+     * @return The game count
+     */
+    public long getGames() {
+        return games;
+    }
+
+    /**
+     * Gets the number of players in every game.
+     *
+     * @return The player count
+     */
+    public int getNumPlayers() {
+        return winsBySeat.length;
+    }
+
+    /**
+     * Gets the number of games won by the player in the given seat.
+     *
+     * @param seat The seat index
+     * @return The number of wins
+     */
+    public long getWins(int seat) {
+        return winsBySeat[seat];
+    }
+
+    /**
+     * Gets the fraction of games won by the player in the given seat.
+     *
+     * @param seat The seat index
+     * @return The win rate between 0 and 1, or 0 if no games were played
+     */
+    public double getWinRate(int seat) {
+        return games == 0 ? 0.0 : (double) winsBySeat[seat] / games;
+    }
+
+    /**
+     * Gets the average number of rounds per game.
+     *
+     * @return The average rounds, or 0 if no games were played
+     */
+    public double getAverageRounds() {
+        return games == 0 ? 0.0 : (double) totalRounds / games;
+    }
+
+    /**
+     * Gets the average number of turns per game.
+     *
+     * @return The average turns, or 0 if no games were played
+     */
+    public double getAverageTurns() {
+        return games == 0 ? 0.0 : (double) totalTurns / games;
+    }
+
+    /**
+     * Gets the average number of draw pile reshuffles per game.
+     *
+     * @return The average reshuffles, or 0 if no games were played
+     */
+    public double getAverageReshuffles() {
+        return games == 0 ? 0.0 : (double) totalReshuffles / games;
+    }
+
+    /**
+     * Returns a multi-line summary of the result.
+     *
+     * @return The summary
+     */
+    @Override
+    public String toString() {
+        StringBuilder summary = new StringBuilder();
+        summary.append(String.format("Games: %d, average rounds: %.2f, average turns: %.2f, average reshuffles: %.2f%n",
+                games, getAverageRounds(), getAverageTurns(), getAverageReshuffles()));
+        for (int seat = 0; seat < winsBySeat.length; seat++) {
+            summary.append(String.format("Player %d win rate: %.4f%n", seat + 1, getWinRate(seat)));
+        }
+        return summary.toString();
+    }
+}
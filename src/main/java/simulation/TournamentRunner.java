@@ -0,0 +1,229 @@
+package main.java.simulation;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import main.java.game.GameMediator;
+import main.java.game.GameMode;
+import main.java.players.Player;
+import main.java.utils.GameLogPool;
+import main.java.utils.NoOpScoreSink;
+import main.java.utils.ScoreTracker;
+
+/**
+ * TournamentRunner plays a large number of independent headless games across all cores.
+ * The game range is split recursively on a fork-join pool; every leaf task creates and owns
+ * its own engine instances and fills its own TournamentResult, and the partial results are
+ * merged on the way back up. Workers share no mutable state while games are running, and a
+ * leaf task plays all its headless games on one mediator that it resets between games.
+ *
+ * <p>Every game gets its own random stream, seeded from the tournament seed and the index of
+ * the game alone. A tournament seed therefore determines every game, and the result does not
+ * depend on the number of workers or on how the range was split.</p>
+ *
+ * <p>Games normally run headless. Given a GameLogPool, every game runs verbose instead and
+ * writes its output to its own stream from the pool, tagged with the game's index.</p>
+ */
+public class TournamentRunner {
+    private static final int GAMES_PER_TASK = 256;
+    
+    /** Odd increment of the SplitMix64 sequence, the golden ratio scaled to 64 bits */
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private final int numPlayers;
+    private final ForkJoinPool pool;
+    private final GameLogPool gameLogs;
+
+    /**
+     * Constructs a runner that uses one worker per available core.
+     *
+     * @param numPlayers The number of players in every game
+     */
+    public TournamentRunner(int numPlayers) {
+        this(numPlayers, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs a runner with a fixed number of workers.
+     *
+     * @param numPlayers The number of players in every game
+     * @param parallelism The number of worker threads
+     * @throws IllegalArgumentException if the player count or parallelism is out of range
+     */
+    public TournamentRunner(int numPlayers, int parallelism) {
+        this(numPlayers, parallelism, null);
+    }
+
+    /**
+     * Constructs a runner with a fixed number of workers whose games log their output.
+     *
+     * @param numPlayers The number of players in every game
+     * @param parallelism The number of worker threads
+     * @param gameLogs The pool that provides each game's output stream, or null to run games headless
+     * @throws IllegalArgumentException if the player count or parallelism is out of range
+     */
+    public TournamentRunner(int numPlayers, int parallelism, GameLogPool gameLogs) {
+        if (numPlayers < 2) {
+            throw new IllegalArgumentException("A game needs at least 2 players");
+        }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1");
+        }
+        this.numPlayers = numPlayers;
+        this.pool = new ForkJoinPool(parallelism);
+        this.gameLogs = gameLogs;
+    }
+
+    /**
+     * Plays the given number of randomly seeded games and returns the aggregated result.
+     *
+     * @param games The number of games to play
+     * @return The merged result of all games
+     */
+    public TournamentResult run(long games) {
+        return run(games, new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Plays the given number of games and returns the aggregated result.
+     * The same seed and game count always produce the same result.
+     *
+     * @param games The number of games to play
+     * @param seed The tournament seed from which every game's seed is derived
+     * @return The merged result of all games
+     */
+    public TournamentResult run(long games, long seed) {
+        return pool.invoke(new GameRangeTask(seed, 0, games));
+    }
+
+    /**
+     * Derives the seed of one game from the tournament seed and the game's index.
+     * Applies the SplitMix64 finalizer to the index-th element of the seed's gamma sequence,
+     * so seeds of neighbouring games are unrelated.
+     *
+     * @param seed The tournament seed
+     * @param gameIndex The index of the game within the tournament
+     * @return The seed of the game
+     */
+    static long gameSeed(long seed, long gameIndex) {
+        long z = seed + (gameIndex + 1) * GOLDEN_GAMMA;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Stops the worker threads of this runner.
+     */
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    /**
+     * Plays a batch of games sequentially on the calling worker.
+     *
+     * @param seed The tournament seed
+     * @param start The index of the first game of the batch
+     * @param games The number of games to play
+     * @return The result of the batch
+     */
+    private TournamentResult playGames(long seed, long start, long games) {
+        TournamentResult result = new TournamentResult(numPlayers);
+        GameMediator reusable = null;
+        for (long i = start; i < start + games; i++) {
+            SplittableRandom random = new SplittableRandom(gameSeed(seed, i));
+            PrintStream out = null;
+            GameMediator mediator;
+            if (gameLogs != null) {
+                // The UI is bound to the game's stream, so every logged game needs its own mediator
+                out = gameLogs.openGame(i);
+                mediator = new GameMediator(GameMode.VERBOSE, new ScoreTracker(NoOpScoreSink.INSTANCE), random, out);
+                mediator.createPlayers(numPlayers);
+            } else if (reusable == null) {
+                reusable = new GameMediator(GameMode.HEADLESS, new ScoreTracker(NoOpScoreSink.INSTANCE), random);
+                reusable.createPlayers(numPlayers);
+                mediator = reusable;
+            } else {
+                reusable.reset(random);
+                mediator = reusable;
+            }
+            mediator.startGame();
+
+            while (!mediator.isGameOver()) {
+                mediator.advance();
+            }
+            if (out != null) {
+                out.close();
+            }
+
+            Player winner = mediator.getGameWinner();
+            result.recordGame(winner.getSeat(), mediator.getRoundNumber(),
+                    mediator.getTurnCount(), mediator.getReshuffleCount());
+        }
+        return result;
+    }
+
+    /**
+     * Fork-join task that splits a range of games until it is small enough to play directly.
+     */
+    @SuppressWarnings("serial") // Tasks are never serialized
+    private class GameRangeTask extends RecursiveTask<TournamentResult> {
+        private final long seed;
+        private final long start;
+        private final long games;
+
+        GameRangeTask(long seed, long start, long games) {
+            this.seed = seed;
+            this.start = start;
+            this.games = games;
+        }
+
+        @Override
+        protected TournamentResult compute() {
+            if (games <= GAMES_PER_TASK) {
+                return playGames(seed, start, games);
+            }
+
+            long half = games / 2;
+            GameRangeTask left = new GameRangeTask(seed, start, half);
+            GameRangeTask right = new GameRangeTask(seed, start + half, games - half);
+            left.fork();
+            TournamentResult result = right.compute();
+            return result.merge(left.join());
+        }
+    }
+
+    /**
+     * Runs a tournament from the command line and prints the aggregate result.
+     *
+     * @param args Optional: number of games, number of players, number of workers, tournament seed,
+     *             and a directory to log every game to
+     * @throws IOException if the game logs cannot be created
+     */
+    public static void main(String[] args) throws IOException {
+        long games = args.length > 0 ? Long.parseLong(args[0]) : 100_000;
+        int numPlayers = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+        int parallelism = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : new SplittableRandom().nextLong();
+        // One log file per worker keeps the file count bounded however many games are played
+        GameLogPool gameLogs = args.length > 4 ? new GameLogPool(new File(args[4]), parallelism) : null;
+
+        TournamentRunner runner = new TournamentRunner(numPlayers, parallelism, gameLogs);
+        long start = System.nanoTime();
+        TournamentResult result = runner.run(games, seed);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        runner.shutdown();
+        if (gameLogs != null) {
+            gameLogs.close();
+        }
+
+        System.out.print(result);
+        System.out.printf("Seed: %d%n", seed);
+        System.out.printf("Workers: %d, elapsed: %.2f s, throughput: %.0f games/sec%n",
+                parallelism, seconds, result.getGames() / seconds);
+    }
+}
@@ -1,7 +1,10 @@
 package main.java.ui;
 
+import java.io.PrintStream;
 import java.util.List;
+import java.util.Map;
 import main.java.cards.Card;
+import main.java.players.Player;
 import main.java.utils.ConsoleColors;
 
 /**
@@ -9,38 +12,56 @@ import main.java.utils.ConsoleColors;
  * This class centralizes UI concerns, separating them from game logic.
  */
 public class GameUI {
+    private final PrintStream out;
+    
+    /**
+     * Constructs a UI that writes to the current System.out.
+     */
+    public GameUI() {
+        this(System.out);
+    }
+    
+    /**
+     * Constructs a UI that writes to the given stream.
+     * Games running side by side each get their own stream, so their output never interleaves.
+     * 
+     * @param out The stream to write the game's output to
+     */
+    public GameUI(PrintStream out) {
+        this.out = out;
+    }
     
     /**
      * Displays the welcome message and game rules to the console.
      */
     public void displayWelcomeMessage() {
-        System.out.println();
+        out.println();
         // Create a fancy UNO title with rainbow effect
         String unoTitle = ConsoleColors.rainbow("  U N O  ");
         printFancyBanner(unoTitle, ConsoleColors.CYAN_BOLD_BRIGHT);
         
-        System.out.println();
+        out.println();
         
-        System.out.println(ConsoleColors.formatHeader(ConsoleColors.RED_BOLD_BRIGHT + "U" + 
+        out.println(ConsoleColors.formatHeader(ConsoleColors.RED_BOLD_BRIGHT + "U" + 
                                                      ConsoleColors.GREEN_BOLD_BRIGHT + "N" + 
                                                      ConsoleColors.BLUE_BOLD_BRIGHT + "O" + 
                                                      ConsoleColors.RESET + 
                                                      ConsoleColors.YELLOW_BOLD_BRIGHT + " GAME SIMULATOR"));
         
-        System.out.println(ConsoleColors.WHITE_BOLD + "Game Rules:" + ConsoleColors.RESET);
-        System.out.println(ConsoleColors.WHITE + "• Match cards by color or number");
-        System.out.println("• Action cards: Skip, Reverse, Draw Two, Wild, Wild Draw Four");
-        System.out.println("• First player to get rid of all cards wins the round");
-        System.out.println("• Winner gets points equal to the sum of opponents' card values");
-        System.out.println("• First player to reach 500 points wins the game!" + ConsoleColors.RESET);
-        System.out.println(ConsoleColors.SHORT_DIVIDER);
+        out.println(ConsoleColors.WHITE_BOLD + "Game Rules:" + ConsoleColors.RESET);
+        out.println(ConsoleColors.WHITE + "• Match cards by color or number");
+        out.println("• Action cards: Skip, Reverse, Draw Two, Wild, Wild Draw Four");
+        out.println("• First player to get rid of all cards wins the round");
+        out.println("• Winner gets points equal to the sum of opponents' card values");
+        out.println("• First player to reach 500 points wins the game!" + ConsoleColors.RESET);
+        out.println(ConsoleColors.SHORT_DIVIDER);
     }
     
     /**
      * Displays a game completion message.
      */
     public void displayGameCompletionMessage() {
-        System.out.println(ConsoleColors.formatHeader("GAME COMPLETED"));
+        out.println(ConsoleColors.formatHeader("GAME COMPLETED"));
         
         String thankYouMessage = "Thanks for playing UNO!";
         printFancyBanner(thankYouMessage, ConsoleColors.YELLOW_BOLD_BRIGHT);
@@ -96,7 +117,7 @@ public class GameUI {
         }
         
         banner.append(ConsoleColors.RESET);
-        System.out.println(banner.toString());
+        out.println(banner.toString());
     }
     
     /**
@@ -105,7 +126,7 @@ public class GameUI {
      * @param roundNumber The current round number
      */
     public void displayRoundHeader(int roundNumber) {
-        System.out.println(ConsoleColors.formatHeader("UNO GAME - ROUND " + roundNumber));
+        out.println(ConsoleColors.formatHeader("UNO GAME - ROUND " + roundNumber));
     }
     
     /**
@@ -114,8 +135,8 @@ public class GameUI {
      * @param dealerName The name of the dealer/starting player
      */
     public void displayGameSetupComplete(String dealerName) {
-        System.out.println(ConsoleColors.formatSubHeader("GAME SETUP COMPLETE"));
-        System.out.println(ConsoleColors.WHITE_BOLD_BRIGHT + "Dealer/Starting player: " + 
+        out.println(ConsoleColors.formatSubHeader("GAME SETUP COMPLETE"));
+        out.println(ConsoleColors.WHITE_BOLD_BRIGHT + "Dealer/Starting player: " + 
                           ConsoleColors.formatPlayerName(dealerName));
     }
     
@@ -123,8 +144,8 @@ public class GameUI {
      * Displays the determining dealer message.
      */
     public void displayDeterminingDealerHeader() {
-        System.out.println(ConsoleColors.formatSubHeader("DETERMINING DEALER"));
-        System.out.println(ConsoleColors.WHITE_BRIGHT + "Each player draws a card; highest card value becomes the dealer." + ConsoleColors.RESET);
+        out.println(ConsoleColors.formatSubHeader("DETERMINING DEALER"));
+        out.println(ConsoleColors.WHITE_BRIGHT + "Each player draws a card; highest card value becomes the dealer." + ConsoleColors.RESET);
     }
     
     /**
@@ -134,7 +155,7 @@ public class GameUI {
      * @param cardDescription The description of the card drawn
      */
     public void displayPlayerDrawingCard(String playerName, String cardDescription) {
-        System.out.println(ConsoleColors.formatPlayerName(playerName) + " draws " + ConsoleColors.formatCard(cardDescription));
+        out.println(ConsoleColors.formatPlayerName(playerName) + " draws " + ConsoleColors.formatCard(cardDescription));
     }
     
     /**
@@ -144,7 +165,7 @@ public class GameUI {
      * @param cardDescription The description of the highest card
      */
     public void displayDealerSelected(String dealerName, String cardDescription) {
-        System.out.println(ConsoleColors.highlight(ConsoleColors.formatPlayerName(dealerName) + 
+        out.println(ConsoleColors.highlight(ConsoleColors.formatPlayerName(dealerName) + 
             " has the highest card: " + ConsoleColors.formatCard(cardDescription) + 
             " and will be the dealer!"));
     }
@@ -153,14 +174,14 @@ public class GameUI {
      * Displays a message about cards being returned to the deck.
      */
     public void displayCardsReturnedToDeck() {
-        System.out.println(ConsoleColors.WHITE_BRIGHT + "Cards returned to deck for shuffling." + ConsoleColors.RESET);
+        out.println(ConsoleColors.WHITE_BRIGHT + "Cards returned to deck for shuffling." + ConsoleColors.RESET);
     }
     
     /**
      * Displays a message about the deck being shuffled.
      */
     public void displayDeckShuffled() {
-        System.out.println(ConsoleColors.WHITE_BRIGHT + "Dealer shuffles the deck." + ConsoleColors.RESET);
+        out.println(ConsoleColors.WHITE_BRIGHT + "Dealer shuffles the deck." + ConsoleColors.RESET);
     }
     
     /**
@@ -169,8 +190,8 @@ public class GameUI {
      * @param dealerName The name of the dealer
      */
     public void displayDealingCardsHeader(String dealerName) {
-        System.out.println(ConsoleColors.formatSubHeader("DEALING CARDS"));
-        System.out.println(ConsoleColors.WHITE_BRIGHT + "Dealer (" + 
+        out.println(ConsoleColors.formatSubHeader("DEALING CARDS"));
+        out.println(ConsoleColors.WHITE_BRIGHT + "Dealer (" + 
                           ConsoleColors.formatPlayerName(dealerName) + ") deals 7 cards to each player." + 
                           ConsoleColors.RESET);
     }
@@ -181,7 +202,7 @@ public class GameUI {
      * @param roundNum The dealing round number
      */
     public void displayDealRoundHeader(int roundNum) {
-        System.out.println(ConsoleColors.CYAN_BRIGHT + "\n🎴 Deal Round " + roundNum + ":" + ConsoleColors.RESET);
+        out.println(ConsoleColors.CYAN_BRIGHT + "\n🎴 Deal Round " + roundNum + ":" + ConsoleColors.RESET);
     }
     
     /**
@@ -200,14 +221,14 @@ public class GameUI {
                 handStr.append(" ");
             }
         }
-        System.out.println(handStr.toString());
+        out.println(handStr.toString());
     }
     
     /**
      * Displays a message that all players have been dealt cards.
      */
     public void displayAllPlayersDealt() {
-        System.out.println(ConsoleColors.GREEN_BRIGHT + "\n✓ All players have been dealt 7 cards each." + ConsoleColors.RESET);
+        out.println(ConsoleColors.GREEN_BRIGHT + "\n✓ All players have been dealt 7 cards each." + ConsoleColors.RESET);
     }
     
     /**
@@ -216,7 +237,7 @@ public class GameUI {
      * @param cardDescription The description of the starting card
      */
     public void displayStartingCard(String cardDescription) {
-        System.out.println(ConsoleColors.WHITE_BOLD_BRIGHT + "Starting card: " + 
+        out.println(ConsoleColors.WHITE_BOLD_BRIGHT + "Starting card: " + 
                           ConsoleColors.formatCard(cardDescription) + ConsoleColors.RESET);
     }
     
@@ -226,7 +247,7 @@ public class GameUI {
      * @param playerName The name of the player whose turn it is
      */
     public void displayPlayerTurnHeader(String playerName) {
-        System.out.println(ConsoleColors.formatSubHeader("🎮 " + playerName + "'S TURN"));
+        out.println(ConsoleColors.formatSubHeader("🎮 " + playerName + "'S TURN"));
     }
     
     /**
@@ -235,7 +256,7 @@ public class GameUI {
      * @param cardDescription The description of the top card
      */
     public void displayTopCard(String cardDescription) {
-        System.out.println(ConsoleColors.WHITE_BOLD_BRIGHT + "Top card: " + 
+        out.println(ConsoleColors.WHITE_BOLD_BRIGHT + "Top card: " + 
                           ConsoleColors.formatCard(cardDescription) + ConsoleColors.RESET);
     }
     
@@ -246,7 +267,7 @@ public class GameUI {
      * @param cardDescription The description of the card being played
      */
     public void displayPlayerPlayingCard(String playerName, String cardDescription) {
-        System.out.println(ConsoleColors.highlight(ConsoleColors.formatPlayerName(playerName) + " plays " + 
+        out.println(ConsoleColors.highlight(ConsoleColors.formatPlayerName(playerName) + " plays " + 
                                                  ConsoleColors.formatCard(cardDescription)));
     }
     
@@ -256,7 +277,7 @@ public class GameUI {
      * @param playerName The name of the player
      */
     public void displayPlayerDrawingCardOnTurn(String playerName) {
-        System.out.println(ConsoleColors.WHITE_BRIGHT + 
+        out.println(ConsoleColors.WHITE_BRIGHT + 
                           ConsoleColors.formatPlayerName(playerName) + 
                           " has no playable cards and draws a card" + ConsoleColors.RESET);
     }
@@ -268,7 +289,7 @@ public class GameUI {
      * @param cardDescription The description of the drawn card
      */
     public void displayPlayerPlayingDrawnCard(String playerName, String cardDescription) {
-        System.out.println(ConsoleColors.highlight(ConsoleColors.formatPlayerName(playerName) + 
+        out.println(ConsoleColors.highlight(ConsoleColors.formatPlayerName(playerName) + 
                                                  " plays drawn card: " + 
                                                  ConsoleColors.formatCard(cardDescription)));
     }
@@ -277,7 +298,7 @@ public class GameUI {
      * Displays a message that a drawn card cannot be played.
      */
     public void displayDrawnCardCannotBePlayed() {
-        System.out.println(ConsoleColors.WHITE_BRIGHT + "⛔ Drawn card cannot be played. End turn." + ConsoleColors.RESET);
+        out.println(ConsoleColors.WHITE_BRIGHT + "⛔ Drawn card cannot be played. End turn." + ConsoleColors.RESET);
     }
     
     /**
@@ -288,7 +309,7 @@ public class GameUI {
      */
     public void displayPlayerCardCount(String playerName, int cardCount) {
         String cardEmoji = cardCount == 1 ? "⚠️ " : "🎴 ";
-        System.out.println(ConsoleColors.WHITE_BRIGHT + cardEmoji + 
+        out.println(ConsoleColors.WHITE_BRIGHT + cardEmoji + 
                           ConsoleColors.formatPlayerName(playerName) + " has " + 
                           ConsoleColors.YELLOW_BOLD_BRIGHT + cardCount + 
                           ConsoleColors.WHITE_BRIGHT + " card" + (cardCount == 1 ? "" : "s") + " left" + 
@@ -296,7 +317,7 @@ public class GameUI {
         
         // Add UNO warning if player has only one card
         if (cardCount == 1) {
-            System.out.println(ConsoleColors.RED_BOLD_BRIGHT + "   ⚠️  UNO!  ⚠️" + ConsoleColors.RESET);
+            out.println(ConsoleColors.RED_BOLD_BRIGHT + "   ⚠️  UNO!  ⚠️" + ConsoleColors.RESET);
         }
     }
     
@@ -307,7 +328,7 @@ public class GameUI {
      */
     public void displayPlayerWinsRound(String playerName) {
         String message = "🎉 " + playerName + " WINS THE ROUND! 🎉";
-        System.out.println(ConsoleColors.formatHeader(ConsoleColors.YELLOW_BOLD_BRIGHT + message));
+        out.println(ConsoleColors.formatHeader(ConsoleColors.YELLOW_BOLD_BRIGHT + message));
     }
     
     /**
@@ -318,20 +339,20 @@ public class GameUI {
      */
     public void displayPlayerWinsGame(String playerName, int score) {
         String winMessage = "🏆 " + playerName + " WINS THE GAME WITH " + score + " POINTS! 🏆";
-        System.out.println(ConsoleColors.formatHeader(ConsoleColors.YELLOW_BOLD_BRIGHT + winMessage));
+        out.println(ConsoleColors.formatHeader(ConsoleColors.YELLOW_BOLD_BRIGHT + winMessage));
         
         // Display a trophy ASCII art
-        System.out.println(ConsoleColors.YELLOW_BOLD_BRIGHT);
-        System.out.println("       ___________      ");
-        System.out.println("      '._==_==_=_.'     ");
-        System.out.println("      .-\\:      /-.    ");
-        System.out.println("     | (|:.     |) |    ");
-        System.out.println("      '-|:.     |-'     ");
-        System.out.println("        \\::.    /      ");
-        System.out.println("         '::. .'        ");
-        System.out.println("           ) (          ");
-        System.out.println("         _.' '._        ");
-        System.out.println("        '-------'       " + ConsoleColors.RESET);
+        out.println(ConsoleColors.YELLOW_BOLD_BRIGHT);
+        out.println("       ___________      ");
+        out.println("      '._==_==_=_.'     ");
+        out.println("      .-\\:      /-.    ");
+        out.println("     | (|:.     |) |    ");
+        out.println("      '-|:.     |-'     ");
+        out.println("        \\::.    /      ");
+        out.println("         '::. .'        ");
+        out.println("           ) (          ");
+        out.println("         _.' '._        ");
+        out.println("        '-------'       " + ConsoleColors.RESET);
     }
     
     /**
@@ -340,7 +361,7 @@ public class GameUI {
      * @param roundNumber The upcoming round number
      */
     public void displayPreparingForNextRound(int roundNumber) {
-        System.out.println(ConsoleColors.CYAN_BOLD + "\nPreparing for round " + 
+        out.println(ConsoleColors.CYAN_BOLD + "\nPreparing for round " + 
                            roundNumber + "...\n" + ConsoleColors.RESET);
     }
     
@@ -348,7 +369,7 @@ public class GameUI {
      * Displays the header for applying a card effect.
      */
     public void displayApplyingCardEffectHeader() {
-        System.out.println(ConsoleColors.formatSubHeader("APPLYING CARD EFFECT"));
+        out.println(ConsoleColors.formatSubHeader("APPLYING CARD EFFECT"));
     }
     
     /**
@@ -357,7 +378,7 @@ public class GameUI {
      * @param cardDescription The description of the card whose effect is being applied
      */
     public void displayApplyingCardEffect(String cardDescription) {
-        System.out.println(ConsoleColors.WHITE + "Applying effect of " + 
+        out.println(ConsoleColors.WHITE + "Applying effect of " + 
                            ConsoleColors.formatCard(cardDescription) + ConsoleColors.RESET);
     }
     
@@ -365,22 +386,22 @@ public class GameUI {
      * Displays a message about replenishing the draw pile.
      */
     public void displayReplenishingDrawPile() {
-        System.out.println(ConsoleColors.CYAN_BOLD + "Draw pile empty! Reshuffling discard pile..." + ConsoleColors.RESET);
+        out.println(ConsoleColors.CYAN_BOLD + "Draw pile empty! Reshuffling discard pile..." + ConsoleColors.RESET);
     }
     
     /**
      * Displays a message that the discard pile has been reshuffled.
      */
     public void displayDiscardPileReshuffled() {
-        System.out.println(ConsoleColors.CYAN_BOLD + "Discard pile reshuffled and added to draw pile." + ConsoleColors.RESET);
+        out.println(ConsoleColors.CYAN_BOLD + "Discard pile reshuffled and added to draw pile." + ConsoleColors.RESET);
     }
     
     /**
      * Displays a warning message about no cards left in the deck.
      */
     public void displayNoCardsLeftWarning() {
-        System.out.println(ConsoleColors.RED_BOLD + 
-                          "Warning: No cards left in deck or discard pile! Creating a fallback Wild card." + 
+        out.println(ConsoleColors.RED_BOLD + 
+                          "Warning: No cards left in deck or discard pile! No card can be drawn." + 
                           ConsoleColors.RESET);
     }
     
@@ -400,7 +421,7 @@ public class GameUI {
                 handStr.append(" ");
             }
         }
-        System.out.println(handStr.toString());
+        out.println(handStr.toString());
     }
     
     /**
@@ -409,7 +430,158 @@ public class GameUI {
      * @param dealerName The name of the dealer
      */
     public void displayDealerSelectedMessage(String dealerName) {
-        System.out.println(ConsoleColors.CYAN_BRIGHT + "✓ " + dealerName + " will be the dealer." + ConsoleColors.RESET);
-        System.out.println(ConsoleColors.SHORT_DIVIDER);
+        out.println(ConsoleColors.CYAN_BRIGHT + "✓ " + dealerName + " will be the dealer." + ConsoleColors.RESET);
+        out.println(ConsoleColors.SHORT_DIVIDER);
+    }
+    
+    /**
+     * Displays the number of players taking part in the game.
+     * 
+     * @param playerCount The number of players
+     */
+    public void displayPlayerCount(int playerCount) {
+        out.println(ConsoleColors.WHITE_BRIGHT + "Game starting with " + playerCount + " players." + ConsoleColors.RESET);
+    }
+    
+    /**
+     * Displays a message that a Wild Draw Four was turned up as the starting card and returned.
+     */
+    public void displayWildDrawFourReturned() {
+        out.println(ConsoleColors.WHITE + "First card was a Wild Draw Four. Returning to deck and drawing another." + ConsoleColors.RESET);
+    }
+    
+    /**
+     * Displays a card drawn by a player.
+     * 
+     * @param playerName The name of the player
+     * @param cardDescription The description of the card drawn
+     */
+    public void displayPlayerDrewCard(String playerName, String cardDescription) {
+        out.println(ConsoleColors.WHITE + playerName + " drew " + ConsoleColors.formatCard(cardDescription) + ConsoleColors.RESET);
+    }
+    
+    /**
+     * Displays how many cards a player holds after hands have been redistributed.
+     * 
+     * @param playerName The name of the player
+     * @param cardCount The number of cards the player now holds
+     */
+    public void displayRedistributedHand(String playerName, int cardCount) {
+        out.println(playerName + " now has " + cardCount + " cards");
+    }
+    
+    /**
+     * Displays a message that a player's turn has been skipped.
+     * 
+     * @param playerName The name of the skipped player
+     */
+    public void displayTurnSkipped(String playerName) {
+        out.println(ConsoleColors.YELLOW_BOLD + "🚫 " + playerName + "'s turn has been skipped! 🚫" + ConsoleColors.RESET);
+    }
+    
+    /**
+     * Displays a message that the direction of play has been reversed.
+     */
+    public void displayDirectionReversed() {
+        out.println(ConsoleColors.CYAN_BOLD + "↩️ Direction of play has been reversed! ↩️" + ConsoleColors.RESET);
+    }
+    
+    /**
+     * Displays a message that a player draws two cards and loses their turn.
+     * 
+     * @param playerName The name of the player
+     */
+    public void displayDrawTwo(String playerName) {
+        out.println(playerName + " draws 2 cards and loses their turn!");
+    }
+    
+    /**
+     * Displays a message that a Shuffle Hands card has been played.
+     */
+    public void displayShuffleHands() {
+        out.println(ConsoleColors.YELLOW_BOLD + "Shuffle Hands card played! All hands will be collected, shuffled, and redistributed." + ConsoleColors.RESET);
+    }
+    
+    /**
+     * Displays a color change caused by a Wild card.
+     * 
+     * @param playerName The name of the player
+     * @param color The chosen color
+     */
+    public void displayColorChanged(String playerName, String color) {
+        out.println(ConsoleColors.highlight("🌈 " + playerName + " changes color to " + 
+            ConsoleColors.formatColor(color) + "! 🌈"));
+    }
+    
+    /**
+     * Displays a color change caused by a Wild Draw Four card.
+     * 
+     * @param playerName The name of the player
+     * @param color The chosen color
+     */
+    public void displayColorChangedWithDrawFour(String playerName, String color) {
+        out.println(ConsoleColors.highlight("🌈➕ " + playerName + " changes color to " + 
+            ConsoleColors.formatColor(color) + " and next player draws 4 cards! 🌈➕"));
+    }
+    
+    /**
+     * Displays a warning that a Wild Draw Four was played illegally.
+     */
+    public void displayInvalidWildDrawFour() {
+        out.println(ConsoleColors.RED_BOLD + "⚠️ Invalid Wild Draw Four play! Player has matching color card. ⚠️" + ConsoleColors.RESET);
+    }
+    
+    /**
+     * Displays the points a player scored in the round.
+     * 
+     * @param playerName The name of the round winner
+     * @param roundScore The points scored this round
+     */
+    public void displayRoundScoreUpdate(String playerName, int roundScore) {
+        out.println(ConsoleColors.formatSubHeader("ROUND SCORE UPDATE"));
+        out.println(ConsoleColors.GREEN_BOLD + playerName + " scored " + roundScore + " points this round!" + ConsoleColors.RESET);
+    }
+    
+    /**
+     * Displays the scoreboard in table format.
+     * 
+     * @param rankedPlayers The players sorted by score in descending order
+     * @param scores The score of each player
+     */
+    public void displayScoreboard(List<Player> rankedPlayers, Map<Player, Integer> scores) {
+        out.println(ConsoleColors.formatSubHeader("CURRENT SCOREBOARD"));
+        out.println(ConsoleColors.CYAN + "┌─────────────┬────────┐");
+        out.println("│ Player      │ Score  │");
+        out.println("├─────────────┼────────┤");
+        
+        for (Player player : rankedPlayers) {
+            int score = scores.getOrDefault(player, 0);
+            String scoreColor = (player == rankedPlayers.get(0)) ? ConsoleColors.YELLOW_BOLD : ConsoleColors.WHITE;
+            out.printf("│ %-11s │ %s%6d%s │\n", 
+                    player.getName(), 
+                    scoreColor,
+                    score, 
+                    ConsoleColors.CYAN);
+        }
+        
+        out.println("└─────────────┴────────┘" + ConsoleColors.RESET);
+    }
+    
+    /**
+     * Displays a message that the round scores were saved.
+     * 
+     * @param csvPath The path of the scores file
+     */
+    public void displayScoresSaved(String csvPath) {
+        out.println(ConsoleColors.GREEN + "Scores saved to " + csvPath + ConsoleColors.RESET);
+    }
+    
+    /**
+     * Displays a message that the game winner was saved.
+     * 
+     * @param csvPath The path of the scores file
+     */
+    public void displayGameWinnerSaved(String csvPath) {
+        out.println(ConsoleColors.GREEN_BOLD + "Game winner saved to " + csvPath + ConsoleColors.RESET);
     }
-} 
\ No newline at end of file
+}
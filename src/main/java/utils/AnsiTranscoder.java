@@ -0,0 +1,380 @@
+package main.java.utils;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Converts console output colored with {@link ConsoleColors} into plain text for log files.
+ * Card colors become {@code [RED x]}, player names {@code -> x <-}, highlights {@code * x *},
+ * the colored UNO becomes {@code UNO}, boxed headers become lines of {@code =} or {@code -},
+ * and every other escape code is removed.
+ *
+ * <p>The input is read in one pass from left to right. Text inside a card, player name,
+ * highlight or header is converted by the same scan as it is copied, so each character is
+ * looked at a bounded number of times and no intermediate strings are built. The output goes
+ * to a buffer that is reused for every call and only grows when a longer chunk arrives.</p>
+ *
+ * <p>An instance is not thread-safe; each writing thread needs its own.</p>
+ */
+public final class AnsiTranscoder {
+    private static final char ESC = '\u001B';
+    private static final String RESET = ConsoleColors.RESET;
+    private static final String[] CARD_PREFIXES = {
+        ConsoleColors.RED_BOLD_BRIGHT + ConsoleColors.RED_BACKGROUND + " ",
+        ConsoleColors.BLUE_BOLD_BRIGHT + ConsoleColors.BLUE_BACKGROUND + " ",
+        ConsoleColors.GREEN_BOLD_BRIGHT + ConsoleColors.GREEN_BACKGROUND + " ",
+        ConsoleColors.YELLOW_BOLD_BRIGHT + ConsoleColors.YELLOW_BACKGROUND + " ",
+        ConsoleColors.PURPLE_BOLD_BRIGHT + ConsoleColors.BLACK_BACKGROUND + " "
+    };
+    private static final String[] CARD_LABELS = {"[RED ", "[BLUE ", "[GREEN ", "[YELLOW ", "[WILD "};
+    private static final String CARD_END = " " + RESET;
+    private static final String UNO = ConsoleColors.RED_BOLD + "U" + ConsoleColors.GREEN_BOLD + "N"
+            + ConsoleColors.BLUE_BOLD + "O";
+    private static final String PLAYER_START = ConsoleColors.WHITE_BOLD_BRIGHT + "★ ";
+    private static final String PLAYER_END = " ★" + RESET;
+    private static final String HIGHLIGHT_START = ConsoleColors.YELLOW_BOLD_BRIGHT;
+    private static final String HEADER_START = ConsoleColors.CYAN_BOLD_BRIGHT + "╔";
+    private static final String HEADER_MIDDLE = "╗\n" + ConsoleColors.CYAN_BOLD_BRIGHT + "║  ";
+    private static final String HEADER_TEXT_END = "  ║\n" + ConsoleColors.CYAN_BOLD_BRIGHT + "╚";
+    private static final String HEADER_END = "╝" + RESET;
+    private static final String SUB_HEADER_START = ConsoleColors.CYAN_BRIGHT + "┌";
+    private static final String SUB_HEADER_MIDDLE = "┐" + RESET + "\n" + ConsoleColors.CYAN_BRIGHT + "│ "
+            + ConsoleColors.CYAN_BOLD;
+    private static final String SUB_HEADER_TEXT_END = ConsoleColors.CYAN_BRIGHT + " │" + RESET + "\n"
+            + ConsoleColors.CYAN_BRIGHT + "└";
+    private static final String SUB_HEADER_END = "┘" + RESET;
+
+    /** Scan of a whole chunk: all conversions apply */
+    private static final int TOP = 0;
+    /** Scan of text inside a card, player name or header: no headers */
+    private static final int INLINE = 1;
+    /** Scan of highlighted text: no headers or nested highlights, stops at the first reset */
+    private static final int HIGHLIGHT = 2;
+
+    private CharSequence input;
+    private char[] output = new char[256];
+    private int length;
+
+    /**
+     * Converts a chunk of console output into plain text.
+     * The result stays in the output buffer until the next call.
+     *
+     * @param text The console output
+     * @return The number of converted characters at the start of {@link #getOutput()}
+     */
+    public int transcode(CharSequence text) {
+        input = text;
+        length = 0;
+        scan(0, text.length(), TOP);
+        input = null;
+        return length;
+    }
+
+    /**
+     * Converts a chunk of console output into plain text and writes it.
+     *
+     * @param text The console output
+     * @param out The writer to write the plain text to
+     * @throws IOException if writing fails
+     */
+    public void transcode(CharSequence text, Writer out) throws IOException {
+        int n = transcode(text);
+        out.write(output, 0, n);
+    }
+
+    /**
+     * Converts a chunk of console output into a plain text string.
+     *
+     * @param text The console output
+     * @return The plain text
+     */
+    public String toPlainText(CharSequence text) {
+        int n = transcode(text);
+        return new String(output, 0, n);
+    }
+
+    /**
+     * Gets the output buffer holding the result of the last conversion.
+     *
+     * @return The output buffer
+     */
+    public char[] getOutput() {
+        return output;
+    }
+
+    /**
+     * Converts part of the input and appends it to the output.
+     *
+     * @param from The first input index
+     * @param to The input index to stop at
+     * @param mode TOP, INLINE or HIGHLIGHT
+     * @return In HIGHLIGHT mode, the index of the reset that ends the highlight, or -1 if the line
+     *         ends first; otherwise {@code to}
+     */
+    private int scan(int from, int to, int mode) {
+        int i = from;
+        while (i < to) {
+            char c = input.charAt(i);
+            if (c != ESC) {
+                if (mode == HIGHLIGHT && isLineTerminator(c)) {
+                    return -1;
+                }
+                append(c);
+                i++;
+                continue;
+            }
+
+            int next = convert(i, to, mode);
+            if (next > i) {
+                i = next;
+            } else if (mode == HIGHLIGHT && startsWith(i, to, RESET)) {
+                return i;
+            } else {
+                int end = escapeCodeEnd(i, to);
+                if (end > i) {
+                    // Any other escape code is dropped
+                    i = end;
+                } else {
+                    append(c);
+                    i++;
+                }
+            }
+        }
+        return mode == HIGHLIGHT ? -1 : to;
+    }
+
+    /**
+     * Tries each conversion at an escape character.
+     *
+     * @param i The index of the escape character
+     * @param to The input index to stop at
+     * @param mode TOP, INLINE or HIGHLIGHT
+     * @return The index after the converted text, or {@code i} if no conversion applies
+     */
+    private int convert(int i, int to, int mode) {
+        for (int color = 0; color < CARD_PREFIXES.length; color++) {
+            if (startsWith(i, to, CARD_PREFIXES[color])) {
+                int textStart = i + CARD_PREFIXES[color].length();
+                int textEnd = findOnLine(textStart, to, CARD_END);
+                if (textEnd >= 0) {
+                    append(CARD_LABELS[color]);
+                    scan(textStart, textEnd, INLINE);
+                    append(']');
+                    return textEnd + CARD_END.length();
+                }
+            }
+        }
+
+        if (startsWith(i, to, UNO)) {
+            append("UNO");
+            return i + UNO.length();
+        }
+
+        if (startsWith(i, to, PLAYER_START)) {
+            int textStart = i + PLAYER_START.length();
+            int textEnd = findOnLine(textStart, to, PLAYER_END);
+            if (textEnd >= 0) {
+                append("-> ");
+                scan(textStart, textEnd, INLINE);
+                append(" <-");
+                return textEnd + PLAYER_END.length();
+            }
+        }
+
+        if (mode != HIGHLIGHT && startsWith(i, to, HIGHLIGHT_START)) {
+            int mark = length;
+            append("* ");
+            int end = scan(i + HIGHLIGHT_START.length(), to, HIGHLIGHT);
+            if (end >= 0) {
+                append(" *");
+                return end + RESET.length();
+            }
+            // No reset on this line: drop what was written and treat the code as a plain one
+            length = mark;
+        }
+
+        if (mode == TOP) {
+            int end = convertHeader(i, to, HEADER_START, '═', HEADER_MIDDLE, HEADER_TEXT_END, HEADER_END, "==========");
+            if (end > i) {
+                return end;
+            }
+            end = convertHeader(i, to, SUB_HEADER_START, '─', SUB_HEADER_MIDDLE, SUB_HEADER_TEXT_END, SUB_HEADER_END,
+                    "----------");
+            if (end > i) {
+                return end;
+            }
+        }
+        return i;
+    }
+
+    /**
+     * Converts a three-line boxed header into its title framed by divider lines.
+     *
+     * @param i The index of the escape character
+     * @param to The input index to stop at
+     * @param start The text before the top border
+     * @param border The border character
+     * @param middle The text from the end of the top border to the title
+     * @param textEnd The text from the title to the bottom border
+     * @param end The text after the bottom border
+     * @param divider The divider line written above and below the title
+     * @return The index after the header, or {@code i} if there is no header at this index
+     */
+    private int convertHeader(int i, int to, String start, char border, String middle, String textEnd,
+            String end, String divider) {
+        if (!startsWith(i, to, start)) {
+            return i;
+        }
+        int p = skipRun(i + start.length(), to, border);
+        if (p == i + start.length() || !startsWith(p, to, middle)) {
+            return i;
+        }
+        int textStart = p + middle.length();
+
+        // The title ends at the first closing text that is followed by a complete bottom border
+        for (int t = textStart; t < to && !isLineTerminator(input.charAt(t)); t++) {
+            if (startsWith(t, to, textEnd)) {
+                int q = skipRun(t + textEnd.length(), to, border);
+                if (q > t + textEnd.length() && startsWith(q, to, end)) {
+                    append(divider);
+                    append("\n   ");
+                    scan(textStart, t, INLINE);
+                    append("   \n");
+                    append(divider);
+                    return q + end.length();
+                }
+            }
+        }
+        return i;
+    }
+
+    /**
+     * Finds the end of an escape code of the form ESC [ digits and semicolons m.
+     *
+     * @param i The index of the escape character
+     * @param to The input index to stop at
+     * @return The index after the code, or {@code i} if no such code starts here
+     */
+    private int escapeCodeEnd(int i, int to) {
+        int p = i + 1;
+        if (p >= to || input.charAt(p) != '[') {
+            return i;
+        }
+        p++;
+        while (p < to) {
+            char c = input.charAt(p);
+            if (c == 'm') {
+                return p + 1;
+            }
+            if (c != ';' && (c < '0' || c > '9')) {
+                return i;
+            }
+            p++;
+        }
+        return i;
+    }
+
+    /**
+     * Finds the first occurrence of a text before the end of the current line.
+     *
+     * @param from The index to search from
+     * @param to The input index to stop at
+     * @param text The text to find
+     * @return The index of the text, or -1 if the line ends first
+     */
+    private int findOnLine(int from, int to, String text) {
+        for (int p = from; p < to; p++) {
+            if (startsWith(p, to, text)) {
+                return p;
+            }
+            if (isLineTerminator(input.charAt(p))) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Skips a run of one character.
+     *
+     * @param from The index to start at
+     * @param to The input index to stop at
+     * @param c The character to skip
+     * @return The index after the run
+     */
+    private int skipRun(int from, int to, char c) {
+        int p = from;
+        while (p < to && input.charAt(p) == c) {
+            p++;
+        }
+        return p;
+    }
+
+    /**
+     * Checks whether the input contains a text at an index.
+     *
+     * @param i The index
+     * @param to The input index to stop at
+     * @param text The text
+     * @return True if the text starts at the index and ends before {@code to}
+     */
+    private boolean startsWith(int i, int to, String text) {
+        int n = text.length();
+        if (i + n > to) {
+            return false;
+        }
+        for (int k = 0; k < n; k++) {
+            if (input.charAt(i + k) != text.charAt(k)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether a character ends a line, using the same characters as a regular expression dot.
+     *
+     * @param c The character
+     * @return True if the character is a line terminator
+     */
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+
+    /**
+     * Appends one character to the output.
+     *
+     * @param c The character
+     */
+    private void append(char c) {
+        if (length == output.length) {
+            grow(1);
+        }
+        output[length++] = c;
+    }
+
+    /**
+     * Appends a text to the output.
+     *
+     * @param text The text
+     */
+    private void append(String text) {
+        int n = text.length();
+        if (length + n > output.length) {
+            grow(n);
+        }
+        text.getChars(0, n, output, length);
+        length += n;
+    }
+
+    /**
+     * Grows the output buffer so that the given number of characters fits after the current content.
+     *
+     * @param extra The number of characters to append
+     */
+    private void grow(int extra) {
+        char[] grown = new char[Math.max(output.length * 2, length + extra)];
+        System.arraycopy(output, 0, grown, 0, length);
+        output = grown;
+    }
+}
@@ -0,0 +1,296 @@
+package main.java.utils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * AsyncLogWriter moves console and log file output off the printing thread.
+ * Printed text is cut into chunks of complete lines and handed to a background thread
+ * through a bounded queue. The background thread writes the chunks to the console as they are,
+ * converts them to plain text for the log file, and writes them in batches. Both outputs are
+ * flushed once the queue runs empty, at least every flush interval, and when the writer is closed.
+ */
+public class AsyncLogWriter {
+    private static final int BATCH_SIZE = 256;
+    private static final long FLUSH_INTERVAL_MILLIS = 100;
+    private static final long OFFER_TIMEOUT_MILLIS = 100;
+    
+    /** Queue entry that tells the background thread to stop */
+    private static final Object POISON = new Object();
+    
+    private final BlockingQueue<Object> queue;
+    private final LogOverflowPolicy policy;
+    private final PrintStream console;
+    private final Writer file;
+    private final Thread thread;
+    private final AtomicLong droppedChunks = new AtomicLong();
+    private final AnsiTranscoder transcoder = new AnsiTranscoder();
+    private final ReadWriteLock closeLock = new ReentrantReadWriteLock();
+    private volatile boolean closed;
+    
+    /**
+     * Constructs a writer and starts its background thread.
+     * 
+     * @param console The console stream, written to unchanged
+     * @param file The log file, written to as plain text
+     * @param capacity The maximum number of chunks waiting to be written
+     * @param policy What to do when the queue is full
+     * @throws IllegalArgumentException if the capacity is not positive
+     */
+    public AsyncLogWriter(PrintStream console, Writer file, int capacity, LogOverflowPolicy policy) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Queue capacity must be at least 1");
+        }
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.policy = policy;
+        this.console = console;
+        this.file = file;
+        this.thread = new Thread(this::run, "uno-log-writer");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+    
+    /**
+     * Creates an output stream that cuts printed bytes into complete lines for this writer.
+     * Suitable for wrapping in a PrintStream and installing as System.out.
+     * 
+     * @return The line-splitting output stream
+     */
+    public OutputStream newLineStream() {
+        return new LineSplittingOutputStream();
+    }
+    
+    /**
+     * Hands a chunk of complete lines to the background thread.
+     * With the BLOCK policy this waits while the queue is full, but never once the background
+     * thread has stopped.
+     * 
+     * @param chunk The text to write
+     * @return True if the chunk was queued and will be written, false if it was dropped or the writer is closed
+     */
+    public boolean submit(String chunk) {
+        closeLock.readLock().lock();
+        try {
+            if (closed) {
+                return false;
+            }
+            if (!enqueue(chunk, policy)) {
+                droppedChunks.incrementAndGet();
+                return false;
+            }
+            return true;
+        } finally {
+            closeLock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Gets the number of chunks dropped because the queue was full.
+     * 
+     * @return The dropped chunk count
+     */
+    public long getDroppedChunks() {
+        return droppedChunks.get();
+    }
+    
+    /**
+     * Writes everything still queued, flushes both outputs, and stops the background thread.
+     * Chunks submitted after this call starts are refused.
+     * The console stream is left open; the log file is closed.
+     */
+    public void close() {
+        closeLock.writeLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        } finally {
+            closeLock.writeLock().unlock();
+        }
+        // Every accepted chunk is already queued ahead of the sentinel
+        if (enqueue(POISON, LogOverflowPolicy.BLOCK)) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        try {
+            file.close();
+        } catch (IOException e) {
+            System.err.println("Error closing log file: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Puts an entry into the queue unless the background thread has stopped, which would leave it unwritten.
+     * With the BLOCK policy a full queue is retried for as long as the thread is alive.
+     * 
+     * @param entry The chunk or the sentinel
+     * @param overflow What to do when the queue is full
+     * @return True if the entry was queued
+     */
+    private boolean enqueue(Object entry, LogOverflowPolicy overflow) {
+        if (!thread.isAlive()) {
+            return false;
+        }
+        if (overflow == LogOverflowPolicy.DROP) {
+            return queue.offer(entry);
+        }
+        try {
+            while (!queue.offer(entry, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (!thread.isAlive()) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+    
+    /**
+     * Background loop: takes batches of chunks, writes them, and flushes when idle or due.
+     */
+    private void run() {
+        List<Object> batch = new ArrayList<>(BATCH_SIZE);
+        long lastFlush = System.nanoTime();
+        boolean running = true;
+        while (running) {
+            try {
+                Object first = queue.poll(FLUSH_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    queue.drainTo(batch, BATCH_SIZE - 1);
+                }
+            } catch (InterruptedException e) {
+                running = false;
+            }
+            
+            for (Object entry : batch) {
+                if (entry == POISON) {
+                    running = false;
+                    break;
+                }
+                write((String) entry);
+            }
+            batch.clear();
+            
+            long now = System.nanoTime();
+            if (!running || queue.isEmpty()
+                    || now - lastFlush >= TimeUnit.MILLISECONDS.toNanos(FLUSH_INTERVAL_MILLIS)) {
+                flush();
+                lastFlush = now;
+            }
+        }
+    }
+    
+    /**
+     * Writes one chunk to the console and, converted to plain text, to the log file.
+     * 
+     * @param chunk The chunk to write
+     */
+    private void write(String chunk) {
+        console.print(chunk);
+        try {
+            transcoder.transcode(chunk, file);
+        } catch (IOException e) {
+            System.err.println("Error writing log file: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Flushes both outputs.
+     */
+    private void flush() {
+        console.flush();
+        try {
+            file.flush();
+        } catch (IOException e) {
+            System.err.println("Error flushing log file: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Output stream that collects bytes until a line is complete and then submits
+     * all complete lines as one chunk. Decodes the bytes as UTF-8 so multi-byte characters survive.
+     * Used by a single PrintStream, which serializes the calls.
+     */
+    private class LineSplittingOutputStream extends OutputStream {
+        private byte[] buffer = new byte[256];
+        private int length;
+        
+        @Override
+        public void write(int b) {
+            ensureCapacity(1);
+            buffer[length++] = (byte) b;
+            if (b == '\n') {
+                submitBuffer(length);
+            }
+        }
+        
+        @Override
+        public void write(byte[] b, int off, int len) {
+            ensureCapacity(len);
+            System.arraycopy(b, off, buffer, length, len);
+            length += len;
+            
+            // Submit everything up to and including the last newline
+            for (int i = length - 1; i >= length - len; i--) {
+                if (buffer[i] == '\n') {
+                    submitBuffer(i + 1);
+                    return;
+                }
+            }
+        }
+        
+        @Override
+        public void flush() {
+            // Partial lines stay buffered until they are complete or the stream is closed
+        }
+        
+        @Override
+        public void close() {
+            if (length > 0) {
+                submitBuffer(length);
+            }
+        }
+        
+        /**
+         * Submits the first bytes of the buffer and keeps the rest.
+         * 
+         * @param end The number of bytes to submit
+         */
+        private void submitBuffer(int end) {
+            submit(new String(buffer, 0, end, StandardCharsets.UTF_8));
+            System.arraycopy(buffer, end, buffer, 0, length - end);
+            length -= end;
+        }
+        
+        /**
+         * Grows the buffer so that the given number of bytes fits after the current content.
+         * 
+         * @param extra The number of bytes to append
+         */
+        private void ensureCapacity(int extra) {
+            if (length + extra > buffer.length) {
+                byte[] grown = new byte[Math.max(buffer.length * 2, length + extra)];
+                System.arraycopy(buffer, 0, grown, 0, length);
+                buffer = grown;
+            }
+        }
+    }
+}
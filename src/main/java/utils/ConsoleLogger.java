@@ -1,23 +1,33 @@
 package main.java.utils;
 
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
 import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
 import java.text.SimpleDateFormat;
 import java.util.Date;
-import java.util.regex.Pattern;
 
 /**
  * Utility class that redirects System.out to both the console and a log file.
  * This allows capturing all console output for debugging and record-keeping.
+ * 
+ * <p>In the default mode the printing thread writes to the console and the log file itself.
+ * In asynchronous mode it only hands completed lines to an {@link AsyncLogWriter}, whose
+ * background thread does the formatting and writing.</p>
  */
 public class ConsoleLogger {
     
+    /** Default number of pending output chunks in asynchronous mode */
+    public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+    
     private static final String LOG_DIRECTORY = "logs";
     private static PrintStream originalOut = System.out;
     private static PrintStream fileOut = null;
+    private static AsyncLogWriter asyncWriter = null;
     private static File logFile = null;
     
     // Fancy box-drawing characters for prettier logs
@@ -28,9 +38,6 @@ public class ConsoleLogger {
     private static final String HORIZONTAL = "═";
     private static final String VERTICAL = "║";
     
-    // Regular expression to match ANSI escape codes
-    private static final Pattern ANSI_PATTERN = Pattern.compile("\u001B\\[[;\\d]*m");
-    
     /**
      * Initializes the console logger by redirecting System.out to both
      * the console and a timestamped log file.
@@ -40,19 +47,11 @@ public class ConsoleLogger {
     public static String initialize() {
         FileOutputStream fileOutputStream = null;
         try {
-            // Create logs directory if it doesn't exist
-            File logDir = new File(LOG_DIRECTORY);
-            if (!logDir.exists()) {
-                if (!logDir.mkdir()) {
-                    System.err.println("Failed to create logs directory: " + logDir.getAbsolutePath());
-                    return null;
-                }
+            logFile = createLogFile();
+            if (logFile == null) {
+                return null;
             }
             
-            // Create a log file with timestamp
-            String timestamp = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss").format(new Date());
-            logFile = new File(LOG_DIRECTORY + "/uno_game_" + timestamp + ".log");
-            
             // Create file output stream
             fileOutputStream = new FileOutputStream(logFile, true);
             fileOut = new TextFormattingPrintStream(fileOutputStream);
@@ -82,6 +81,72 @@ public class ConsoleLogger {
         }
     }
     
+    /**
+     * Initializes the console logger in asynchronous mode.
+     * System.out is redirected to a stream that only queues completed lines; a background
+     * thread writes them to the console and, as plain text, to a timestamped log file.
+     * 
+     * @param queueCapacity The maximum number of output chunks waiting to be written
+     * @param policy Whether printing blocks or drops output when the queue is full
+     * @return The path to the created log file, or null if initialization failed
+     */
+    public static String initializeAsync(int queueCapacity, LogOverflowPolicy policy) {
+        FileOutputStream fileOutputStream = null;
+        try {
+            logFile = createLogFile();
+            if (logFile == null) {
+                return null;
+            }
+            
+            fileOutputStream = new FileOutputStream(logFile, true);
+            BufferedWriter fileWriter = new BufferedWriter(
+                    new OutputStreamWriter(fileOutputStream, StandardCharsets.UTF_8));
+            asyncWriter = new AsyncLogWriter(originalOut, fileWriter, queueCapacity, policy);
+            
+            System.setOut(new PrintStream(asyncWriter.newLineStream(), false, StandardCharsets.UTF_8));
+            
+            // Print a fancy start message
+            printBoxedMessage("Console logging started!", ConsoleColors.CYAN_BOLD);
+            System.out.println(ConsoleColors.CYAN + "Log file: " + 
+                               ConsoleColors.CYAN_BOLD + logFile.getAbsolutePath() + 
+                               ConsoleColors.RESET);
+            
+            return logFile.getAbsolutePath();
+        } catch (SecurityException e) {
+            System.err.println("Security error setting up logging: " + e.getMessage());
+            cleanupResources(fileOutputStream);
+            return null;
+        } catch (FileNotFoundException e) {
+            System.err.println("Error creating log file: " + e.getMessage());
+            cleanupResources(fileOutputStream);
+            return null;
+        } catch (Exception e) {
+            System.err.println("Unexpected error during logger setup: " + e.getMessage());
+            cleanupResources(fileOutputStream);
+            return null;
+        }
+    }
+    
+    /**
+     * Creates the logs directory if needed and picks a timestamped log file in it.
+     * 
+     * @return The log file, or null if the directory could not be created
+     */
+    private static File createLogFile() {
+        // Create logs directory if it doesn't exist
+        File logDir = new File(LOG_DIRECTORY);
+        if (!logDir.exists()) {
+            if (!logDir.mkdir()) {
+                System.err.println("Failed to create logs directory: " + logDir.getAbsolutePath());
+                return null;
+            }
+        }
+        
+        // Create a log file with timestamp
+        String timestamp = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss").format(new Date());
+        return new File(LOG_DIRECTORY + "/uno_game_" + timestamp + ".log");
+    }
+    
     /**
      * Clean up any resources if initialization fails
      * 
@@ -101,6 +166,11 @@ public class ConsoleLogger {
             fileOut = null;
         }
         
+        if (asyncWriter != null) {
+            asyncWriter.close();
+            asyncWriter = null;
+        }
+        
         // Make sure System.out is restored
         if (System.out != originalOut) {
             System.setOut(originalOut);
@@ -109,15 +179,25 @@ public class ConsoleLogger {
     
     /**
      * Restores the original System.out and closes the log file.
+     * In asynchronous mode all queued output is written before this returns.
      */
     public static void restore() {
         if (System.out != originalOut) {
             try {
                 printBoxedMessage("Console logging stopped!", ConsoleColors.CYAN_BOLD);
+                PrintStream redirected = System.out;
                 System.setOut(originalOut);
+                if (asyncWriter != null) {
+                    // Hand over any partial line, then drain the queue
+                    redirected.close();
+                }
             } catch (Exception e) {
                 System.err.println("Error restoring System.out: " + e.getMessage());
             } finally {
+                if (asyncWriter != null) {
+                    asyncWriter.close();
+                    asyncWriter = null;
+                }
                 if (fileOut != null) {
                     try {
                         fileOut.close();
@@ -178,6 +258,8 @@ public class ConsoleLogger {
      * Custom PrintStream that replaces ANSI color codes with readable text-based formatting
      */
     private static class TextFormattingPrintStream extends PrintStream {
+        private final AnsiTranscoder transcoder = new AnsiTranscoder();
+        
         public TextFormattingPrintStream(FileOutputStream out) {
             super(out);
         }
@@ -185,7 +267,9 @@ public class ConsoleLogger {
         @Override
         public void print(String s) {
             if (s != null) {
-                super.print(formatForLogFile(s));
+                synchronized (this) {
+                    super.print(transcoder.toPlainText(s));
+                }
             } else {
                 super.print(s);
             }
@@ -194,51 +278,13 @@ public class ConsoleLogger {
         @Override
         public void println(String s) {
             if (s != null) {
-                super.println(formatForLogFile(s));
+                synchronized (this) {
+                    super.println(transcoder.toPlainText(s));
+                }
             } else {
                 super.println(s);
             }
         }
-        
-        /**
-         * Formats the string for log file output by replacing ANSI codes with
-         * appropriate text formatting
-         * 
-         * @param input The input string possibly containing ANSI codes
-         * @return The formatted string for log file
-         */
-        private String formatForLogFile(String input) {
-            String result = input;
-            
-            // Replace card colors with text indicators
-            result = result.replaceAll("\u001B\\[1;91m\u001B\\[41m (.*?) \u001B\\[0m", "[RED $1]");
-            result = result.replaceAll("\u001B\\[1;94m\u001B\\[44m (.*?) \u001B\\[0m", "[BLUE $1]");
-            result = result.replaceAll("\u001B\\[1;92m\u001B\\[42m (.*?) \u001B\\[0m", "[GREEN $1]");
-            result = result.replaceAll("\u001B\\[1;93m\u001B\\[43m (.*?) \u001B\\[0m", "[YELLOW $1]");
-            result = result.replaceAll("\u001B\\[1;95m\u001B\\[40m (.*?) \u001B\\[0m", "[WILD $1]");
-            
-            // Replace UNO with text indicator
-            result = result.replaceAll("\u001B\\[1;31mU\u001B\\[1;32mN\u001B\\[1;34mO", "UNO");
-            
-            // Replace player name formatting
-            result = result.replaceAll("\u001B\\[1;97m★ (.*?) ★\u001B\\[0m", "-> $1 <-");
-            
-            // Replace highlighting
-            result = result.replaceAll("\u001B\\[1;93m(.*?)\u001B\\[0m", "* $1 *");
-            
-            // Replace headers
-            result = result.replaceAll("\u001B\\[1;96m╔(═+)╗\n\u001B\\[1;96m║  (.*?)  ║\n\u001B\\[1;96m╚(═+)╝\u001B\\[0m", 
-                                      "==========\n   $2   \n==========");
-            
-            // Replace sub headers
-            result = result.replaceAll("\u001B\\[0;96m┌(─+)┐\u001B\\[0m\n\u001B\\[0;96m│ \u001B\\[1;36m(.*?)\u001B\\[0;96m │\u001B\\[0m\n\u001B\\[0;96m└(─+)┘\u001B\\[0m",
-                                    "----------\n   $2   \n----------");
-            
-            // Strip any remaining ANSI codes
-            result = ANSI_PATTERN.matcher(result).replaceAll("");
-            
-            return result;
-        }
     }
     
     /**
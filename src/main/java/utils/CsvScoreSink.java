@@ -0,0 +1,128 @@
+package main.java.utils;
+
+import java.util.Map;
+
+import main.java.players.Player;
+
+/**
+ * Score sink that appends the records to a CSV file.
+ * Records go through the shared {@link ScoreFileWriter} of the file, which is looked up on the
+ * first record; creating the sink does no I/O, and the file is created by the writer's
+ * background thread when it writes the first batch.
+ */
+public class CsvScoreSink implements ScoreSink {
+    
+    /** Header line of a new scores file */
+    public static final String CSV_HEADER = "Round,Player 1,Player 2,Player 3,Player 4";
+    
+    /** The scores file used when no other path is given */
+    public static final String DEFAULT_PATH = "csv/scores.csv";
+    
+    private final String csvPath;
+    private ScoreFileWriter writer;
+    
+    /**
+     * Constructs a sink for the given CSV file.
+     * 
+     * @param csvPath The path to the CSV file
+     * @throws IllegalArgumentException if the path is null
+     */
+    public CsvScoreSink(String csvPath) {
+        if (csvPath == null) {
+            throw new IllegalArgumentException("CSV path cannot be null");
+        }
+        this.csvPath = csvPath;
+    }
+    
+    /**
+     * Queues the round scores for the CSV file.
+     * 
+     * @param round The number of the round
+     * @param scores The total score of every player that has scored so far
+     * @return True if the record was queued
+     */
+    @Override
+    public boolean recordRound(int round, Map<Player, Integer> scores) {
+        return writer().append(formatRound(round, scores));
+    }
+    
+    /**
+     * Queues the game winner for the CSV file.
+     * 
+     * @param winner The player who won the game
+     * @return True if the record was queued
+     */
+    @Override
+    public boolean recordGameWinner(Player winner) {
+        return writer().append(formatGameWinner(winner));
+    }
+    
+    /**
+     * Gets the path of the CSV file.
+     * 
+     * @return The CSV path
+     */
+    @Override
+    public String getLocation() {
+        return csvPath;
+    }
+    
+    /**
+     * Gets the writer of the file, looking it up on first use.
+     * 
+     * @return The shared writer of the CSV file
+     */
+    private ScoreFileWriter writer() {
+        if (writer == null) {
+            writer = ScoreFileWriter.forPath(csvPath, CSV_HEADER);
+        }
+        return writer;
+    }
+    
+    /**
+     * Formats the scores after a round as a CSV line.
+     * 
+     * @param round The number of the round
+     * @param scores The total score of every player that has scored so far
+     * @return The CSV line, without a line break
+     */
+    static String formatRound(int round, Map<Player, Integer> scores) {
+        StringBuilder line = new StringBuilder();
+        line.append("Round ").append(round);
+        
+        // Add player scores
+        for (int i = 1; i <= 4; i++) {
+            line.append(",");
+            // Find the player with this number or append 0
+            boolean playerFound = false;
+            for (Map.Entry<Player, Integer> entry : scores.entrySet()) {
+                if (entry.getKey().getName().equals("Player " + i)) {
+                    line.append(entry.getValue());
+                    playerFound = true;
+                    break;
+                }
+            }
+            if (!playerFound) {
+                line.append("0");
+            }
+        }
+        return line.toString();
+    }
+    
+    /**
+     * Formats the game winner as a CSV line.
+     * 
+     * @param winner The player who won the game
+     * @return The CSV line, without a line break
+     */
+    static String formatGameWinner(Player winner) {
+        StringBuilder line = new StringBuilder();
+        line.append("Winner,").append(winner.getName());
+        
+        // Fill the remaining columns with empty values
+        for (int i = 0; i < 3; i++) {
+            line.append(",");
+        }
+        return line.toString();
+    }
+}
@@ -0,0 +1,232 @@
+package main.java.utils;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+/**
+ * GameLogPool gives every game of a simulation its own output stream without opening a file per game.
+ * The pool owns a fixed number of log files. Each game is assigned to one of them by its id, and
+ * its output is written there as plain text, one record per line, tagged with the game id:
+ * {@code [game 17] -> Player 2 <- plays [RED 5]}. A record is written only once its line is
+ * complete, so the lines of games that share a file never interleave, and {@code grep "\[game 17\]"}
+ * recovers one game's log.
+ *
+ * <p>Each game stream must be used by one thread at a time; different games may write concurrently.
+ * Writes to the same file are serialized on that file.</p>
+ */
+public class GameLogPool {
+    private static final String LOG_DIRECTORY = "logs";
+
+    private final LogFile[] files;
+    private volatile boolean closed;
+
+    /**
+     * Opens a pool of log files in the default logs directory.
+     *
+     * @param fileCount The number of log files, which bounds the number of open file handles
+     * @throws IOException if the directory or a file cannot be created
+     */
+    public GameLogPool(int fileCount) throws IOException {
+        this(new File(LOG_DIRECTORY), fileCount);
+    }
+
+    /**
+     * Opens a pool of log files in the given directory.
+     *
+     * @param directory The directory for the log files, created if it does not exist
+     * @param fileCount The number of log files, which bounds the number of open file handles
+     * @throws IllegalArgumentException if the file count is not positive
+     * @throws IOException if the directory or a file cannot be created
+     */
+    public GameLogPool(File directory, int fileCount) throws IOException {
+        if (fileCount < 1) {
+            throw new IllegalArgumentException("A log pool needs at least 1 file");
+        }
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException("Failed to create logs directory: " + directory.getAbsolutePath());
+        }
+
+        String timestamp = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss").format(new Date());
+        this.files = new LogFile[fileCount];
+        try {
+            for (int i = 0; i < fileCount; i++) {
+                File file = new File(directory, "uno_games_" + timestamp + "_" + i + ".log");
+                files[i] = new LogFile(new BufferedWriter(
+                        new OutputStreamWriter(new FileOutputStream(file, true), StandardCharsets.UTF_8)));
+            }
+        } catch (IOException e) {
+            close();
+            throw e;
+        }
+    }
+
+    /**
+     * Opens the output stream of one game.
+     * Closing the stream writes any unfinished last line; the underlying file stays open until
+     * the pool is closed.
+     *
+     * @param gameId The id the game's records are tagged with
+     * @return A stream for the game's console output
+     * @throws IllegalStateException if the pool is closed
+     */
+    public PrintStream openGame(long gameId) {
+        if (closed) {
+            throw new IllegalStateException("Game log pool is closed");
+        }
+        LogFile file = files[(int) Math.floorMod(gameId, (long) files.length)];
+        return new PrintStream(new GameLogStream(file, "[game " + gameId + "] "), false, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Gets the number of log files in the pool.
+     *
+     * @return The file count
+     */
+    public int getFileCount() {
+        return files.length;
+    }
+
+    /**
+     * Flushes and closes all log files.
+     * Streams still open for games must not be written to afterwards.
+     */
+    public void close() {
+        closed = true;
+        for (LogFile file : files) {
+            if (file != null) {
+                file.close();
+            }
+        }
+    }
+
+    /**
+     * One log file shared by several games, with the transcoder that converts their output.
+     */
+    private static class LogFile {
+        private final Writer writer;
+        private final AnsiTranscoder transcoder = new AnsiTranscoder();
+
+        LogFile(Writer writer) {
+            this.writer = writer;
+        }
+
+        /**
+         * Converts complete lines of one game to plain text and writes each as a tagged record.
+         *
+         * @param tag The game tag written before every line
+         * @param lines The console output, ending with a line break
+         */
+        synchronized void write(String tag, String lines) {
+            int length = transcoder.transcode(lines);
+            char[] text = transcoder.getOutput();
+            try {
+                int start = 0;
+                for (int i = 0; i < length; i++) {
+                    if (text[i] == '\n') {
+                        writer.write(tag);
+                        writer.write(text, start, i + 1 - start);
+                        start = i + 1;
+                    }
+                }
+                if (start < length) {
+                    writer.write(tag);
+                    writer.write(text, start, length - start);
+                    writer.write('\n');
+                }
+            } catch (IOException e) {
+                System.err.println("Error writing game log: " + e.getMessage());
+            }
+        }
+
+        /**
+         * Flushes and closes the file.
+         */
+        synchronized void close() {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                System.err.println("Error closing game log: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Output stream of one game. Collects bytes until a line is complete and then hands all
+     * complete lines to the game's log file as one write.
+     */
+    private static class GameLogStream extends OutputStream {
+        private final LogFile file;
+        private final String tag;
+        private byte[] buffer = new byte[256];
+        private int length;
+
+        GameLogStream(LogFile file, String tag) {
+            this.file = file;
+            this.tag = tag;
+        }
+
+        @Override
+        public void write(int b) {
+            ensureCapacity(1);
+            buffer[length++] = (byte) b;
+            if (b == '\n') {
+                writeLines(length);
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            ensureCapacity(len);
+            System.arraycopy(b, off, buffer, length, len);
+            length += len;
+
+            // Write everything up to and including the last newline
+            for (int i = length - 1; i >= length - len; i--) {
+                if (buffer[i] == '\n') {
+                    writeLines(i + 1);
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+            if (length > 0) {
+                writeLines(length);
+            }
+        }
+
+        /**
+         * Writes the first bytes of the buffer to the log file and keeps the rest.
+         *
+         * @param end The number of bytes to write
+         */
+        private void writeLines(int end) {
+            file.write(tag, new String(buffer, 0, end, StandardCharsets.UTF_8));
+            System.arraycopy(buffer, end, buffer, 0, length - end);
+            length -= end;
+        }
+
+        /**
+         * Grows the buffer so that the given number of bytes fits after the current content.
+         *
+         * @param extra The number of bytes to append
+         */
+        private void ensureCapacity(int extra) {
+            if (length + extra > buffer.length) {
+                byte[] grown = new byte[Math.max(buffer.length * 2, length + extra)];
+                System.arraycopy(buffer, 0, grown, 0, length);
+                buffer = grown;
+            }
+        }
+    }
+}
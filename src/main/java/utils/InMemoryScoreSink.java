@@ -0,0 +1,60 @@
+package main.java.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import main.java.players.Player;
+
+/**
+ * Score sink that keeps the records as CSV lines in memory.
+ * The lines have the same format as those of {@link CsvScoreSink}, which makes this sink
+ * useful for inspecting a game's score history without touching the filesystem.
+ */
+public class InMemoryScoreSink implements ScoreSink {
+    private final List<String> records = new ArrayList<>();
+    
+    /**
+     * Keeps the round scores as a CSV line.
+     * 
+     * @param round The number of the round
+     * @param scores The total score of every player that has scored so far
+     * @return Always true
+     */
+    @Override
+    public boolean recordRound(int round, Map<Player, Integer> scores) {
+        records.add(CsvScoreSink.formatRound(round, scores));
+        return true;
+    }
+    
+    /**
+     * Keeps the game winner as a CSV line.
+     * 
+     * @param winner The player who won the game
+     * @return Always true
+     */
+    @Override
+    public boolean recordGameWinner(Player winner) {
+        records.add(CsvScoreSink.formatGameWinner(winner));
+        return true;
+    }
+    
+    /**
+     * Gets the location of the records.
+     * 
+     * @return A description of the in-memory store
+     */
+    @Override
+    public String getLocation() {
+        return "memory";
+    }
+    
+    /**
+     * Gets the records kept so far, oldest first.
+     * 
+     * @return An unmodifiable copy of the records
+     */
+    public List<String> getRecords() {
+        return List.copyOf(records);
+    }
+}
@@ -0,0 +1,16 @@
+package main.java.utils;
+
+/**
+ * Enum representing what the asynchronous log writer does when its queue is full.
+ */
+public enum LogOverflowPolicy {
+    /**
+     * The printing thread waits until the writer has made room, so no output is lost
+     */
+    BLOCK,
+    
+    /**
+     * The output is discarded and counted, so the printing thread never waits
+     */
+    DROP
+}
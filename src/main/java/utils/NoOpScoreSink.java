@@ -0,0 +1,52 @@
+package main.java.utils;
+
+import java.util.Map;
+
+import main.java.players.Player;
+
+/**
+ * Score sink that discards every record.
+ * Used by headless games and simulations, which only need the scores while the game runs.
+ */
+public final class NoOpScoreSink implements ScoreSink {
+    
+    /** The shared instance; the sink has no state */
+    public static final NoOpScoreSink INSTANCE = new NoOpScoreSink();
+    
+    private NoOpScoreSink() {
+        // Use INSTANCE
+    }
+    
+    /**
+     * Discards the round scores.
+     * 
+     * @param round The number of the round
+     * @param scores The total score of every player that has scored so far
+     * @return Always false
+     */
+    @Override
+    public boolean recordRound(int round, Map<Player, Integer> scores) {
+        return false;
+    }
+    
+    /**
+     * Discards the game winner.
+     * 
+     * @param winner The player who won the game
+     * @return Always false
+     */
+    @Override
+    public boolean recordGameWinner(Player winner) {
+        return false;
+    }
+    
+    /**
+     * Gets the location of the records, of which there are none.
+     * 
+     * @return A placeholder description
+     */
+    @Override
+    public String getLocation() {
+        return "nowhere";
+    }
+}
@@ -0,0 +1,318 @@
+package main.java.utils;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * ScoreFileWriter appends score records to a CSV file from a background thread.
+ * There is one writer per file: every ScoreTracker that reports into the same file shares it,
+ * so concurrent games never open the file themselves. Records go through a bounded queue to a
+ * single long-lived writer that group-commits them: whatever has accumulated in the queue is
+ * written as one batch and flushed once. When the queue is full, the writer's overflow policy
+ * decides whether the recording thread waits or the record is dropped and counted.
+ *
+ * <p>The file, its directory and the header line are created when the first batch is written.
+ * Once a writer is closed it refuses every record, and every record accepted before is written
+ * before close returns. After an I/O error its thread stops and it refuses records as well. {@link #closeAll()} closes all
+ * writers and waits for their queued records; applications register it as a shutdown hook
+ * with {@link #closeAllOnShutdown()}.</p>
+ */
+public class ScoreFileWriter {
+    private static final int BATCH_SIZE = 512;
+    private static final long OFFER_TIMEOUT_MILLIS = 100;
+    
+    /** Number of records that may wait for the disk before the overflow policy applies */
+    public static final int QUEUE_CAPACITY = 8192;
+    
+    /** Queue entry that tells the background thread to stop */
+    private static final Object POISON = new Object();
+    private static final ConcurrentMap<Path, ScoreFileWriter> WRITERS = new ConcurrentHashMap<>();
+
+    private final Path path;
+    private final String header;
+    private final LogOverflowPolicy policy;
+    private final BlockingQueue<Object> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final ReadWriteLock closeLock = new ReentrantReadWriteLock();
+    private final AtomicLong droppedRecords = new AtomicLong();
+    private Thread thread;
+    private volatile boolean closed;
+    private volatile long recordCount;
+    private volatile long batchCount;
+
+    /**
+     * Constructs a writer for one file. The background thread starts with the first record.
+     *
+     * @param path The CSV file
+     * @param header The header line written when the file is created
+     * @param policy What to do when the queue is full
+     */
+    private ScoreFileWriter(Path path, String header, LogOverflowPolicy policy) {
+        this.path = path;
+        this.header = header;
+        this.policy = policy;
+    }
+
+    /**
+     * Gets the writer for a CSV file, creating it on first use with the BLOCK policy,
+     * so no score record is ever dropped.
+     * Paths that refer to the same file share one writer.
+     *
+     * @param csvPath The path of the CSV file
+     * @param header The header line written when the file is created
+     * @return The shared writer for the file
+     */
+    public static ScoreFileWriter forPath(String csvPath, String header) {
+        return forPath(csvPath, header, LogOverflowPolicy.BLOCK);
+    }
+
+    /**
+     * Gets the writer for a CSV file, creating it on first use.
+     * Paths that refer to the same file share one writer, which keeps the policy it was created with.
+     *
+     * @param csvPath The path of the CSV file
+     * @param header The header line written when the file is created
+     * @param policy What to do when the queue is full, used if the writer is created by this call
+     * @return The shared writer for the file
+     */
+    public static ScoreFileWriter forPath(String csvPath, String header, LogOverflowPolicy policy) {
+        Path path = Paths.get(csvPath).toAbsolutePath().normalize();
+        return WRITERS.computeIfAbsent(path, p -> new ScoreFileWriter(p, header, policy));
+    }
+
+    /**
+     * Closes every writer, waiting until all queued records are on disk.
+     */
+    public static void closeAll() {
+        for (ScoreFileWriter writer : WRITERS.values()) {
+            writer.close();
+        }
+    }
+
+    /**
+     * Registers a shutdown hook that closes every writer when the JVM exits,
+     * so queued records are written even if the application does not reach its own closeAll call.
+     */
+    public static void closeAllOnShutdown() {
+        Runtime.getRuntime().addShutdownHook(new Thread(ScoreFileWriter::closeAll, "uno-score-writer-shutdown"));
+    }
+
+    /**
+     * Queues one record. With the BLOCK policy this waits while the queue is full;
+     * with DROP it never waits for the disk.
+     *
+     * @param record The CSV line, without a line break
+     * @return True if the record was queued and will be written, false if it was dropped
+     *         or the writer is closed
+     */
+    public boolean append(String record) {
+        closeLock.readLock().lock();
+        try {
+            if (closed) {
+                return false;
+            }
+            if (!enqueue(record, ensureStarted(), policy)) {
+                droppedRecords.incrementAndGet();
+                return false;
+            }
+            return true;
+        } finally {
+            closeLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the path of the file this writer appends to.
+     *
+     * @return The file path
+     */
+    public String getPath() {
+        return path.toString();
+    }
+
+    /**
+     * Gets the number of records written to the file so far.
+     *
+     * @return The record count
+     */
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Gets the number of batches committed so far. Each batch was flushed once.
+     *
+     * @return The batch count
+     */
+    public long getBatchCount() {
+        return batchCount;
+    }
+
+    /**
+     * Gets the number of records refused because the queue was full or the background thread had stopped.
+     *
+     * @return The dropped record count
+     */
+    public long getDroppedRecords() {
+        return droppedRecords.get();
+    }
+
+    /**
+     * Writes all queued records and stops the background thread.
+     * Records appended after this call starts are refused.
+     */
+    public void close() {
+        Thread writerThread;
+        closeLock.writeLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            writerThread = thread;
+        } finally {
+            closeLock.writeLock().unlock();
+        }
+        WRITERS.remove(path, this);
+        if (writerThread == null) {
+            return;
+        }
+        // Every accepted record is already queued ahead of the sentinel
+        if (enqueue(POISON, writerThread, LogOverflowPolicy.BLOCK)) {
+            try {
+                writerThread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Starts the background thread if it is not running yet.
+     *
+     * @return The background thread
+     */
+    private synchronized Thread ensureStarted() {
+        if (thread == null) {
+            thread = new Thread(this::run, "uno-score-writer");
+            thread.setDaemon(true);
+            thread.start();
+        }
+        return thread;
+    }
+
+    /**
+     * Puts an entry into the queue unless the background thread has stopped, which would leave it unwritten.
+     * With the BLOCK policy a full queue is retried for as long as the thread is alive.
+     *
+     * @param entry The record or the sentinel
+     * @param writerThread The background thread
+     * @param overflow What to do when the queue is full
+     * @return True if the entry was queued
+     */
+    private boolean enqueue(Object entry, Thread writerThread, LogOverflowPolicy overflow) {
+        if (!writerThread.isAlive()) {
+            return false;
+        }
+        if (overflow == LogOverflowPolicy.DROP) {
+            return queue.offer(entry);
+        }
+        try {
+            while (!queue.offer(entry, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (!writerThread.isAlive()) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Background loop: waits for records and commits everything that has accumulated as one batch.
+     */
+    private void run() {
+        List<Object> batch = new ArrayList<>(BATCH_SIZE);
+        BufferedWriter writer = null;
+        boolean running = true;
+        try {
+            while (running) {
+                try {
+                    batch.add(queue.take());
+                } catch (InterruptedException e) {
+                    running = false;
+                }
+                queue.drainTo(batch, BATCH_SIZE - 1);
+
+                if (writer == null) {
+                    writer = open();
+                }
+                int written = 0;
+                for (Object entry : batch) {
+                    if (entry == POISON) {
+                        running = false;
+                        continue;
+                    }
+                    writer.write((String) entry);
+                    writer.newLine();
+                    written++;
+                }
+                if (written > 0) {
+                    writer.flush();
+                    recordCount += written;
+                    batchCount++;
+                }
+                batch.clear();
+            }
+        } catch (IOException e) {
+            // The thread stops, and with it the writer refuses further records
+            System.err.println(ConsoleColors.RED_BOLD + "Error writing to scores file: " + e.getMessage() + ConsoleColors.RESET);
+        } finally {
+            if (writer != null) {
+                try {
+                    writer.close();
+                } catch (IOException e) {
+                    System.err.println(ConsoleColors.RED + "Error closing CSV writer: " + e.getMessage() + ConsoleColors.RESET);
+                }
+            }
+        }
+    }
+
+    /**
+     * Opens the file for appending, creating its directory and header line if needed.
+     *
+     * @return The open writer
+     * @throws IOException if the file cannot be opened
+     */
+    private BufferedWriter open() throws IOException {
+        File directory = path.toFile().getParentFile();
+        if (directory != null && !directory.exists() && !directory.mkdirs()) {
+            throw new IOException("Failed to create directory for CSV: " + directory.getAbsolutePath());
+        }
+        boolean isNew = !Files.exists(path) || Files.size(path) == 0;
+        BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        if (isNew) {
+            writer.write(header);
+            writer.newLine();
+        }
+        return writer;
+    }
+}
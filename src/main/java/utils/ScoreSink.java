@@ -0,0 +1,39 @@
+package main.java.utils;
+
+import java.util.Map;
+
+import main.java.players.Player;
+
+/**
+ * Destination for the score records of a game.
+ * The ScoreTracker keeps the scores themselves and hands each finished round and the game winner
+ * to its sink, which decides whether and where they are kept. Implementations must not do any
+ * I/O when they are created, so that creating a game stays cheap; a sink that persists records
+ * opens its resources on the first record.
+ */
+public interface ScoreSink {
+    
+    /**
+     * Records the scores after a round.
+     * 
+     * @param round The number of the round, starting at 1
+     * @param scores The total score of every player that has scored so far
+     * @return True if the record was kept, false if it was discarded
+     */
+    boolean recordRound(int round, Map<Player, Integer> scores);
+    
+    /**
+     * Records the winner of the game.
+     * 
+     * @param winner The player who won the game
+     * @return True if the record was kept, false if it was discarded
+     */
+    boolean recordGameWinner(Player winner);
+    
+    /**
+     * Gets a description of where records are kept, shown to the user after saving.
+     * 
+     * @return The location of the records, such as a file path
+     */
+    String getLocation();
+}